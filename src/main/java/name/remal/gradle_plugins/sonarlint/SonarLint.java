@@ -1,29 +1,24 @@
 package name.remal.gradle_plugins.sonarlint;
 
-import static com.google.common.io.Files.getFileExtension;
+import static com.google.common.math.IntMath.divide;
 import static groovy.lang.Closure.DELEGATE_FIRST;
 import static java.lang.String.format;
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Collections.emptyMap;
+import static java.math.RoundingMode.CEILING;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.Collectors.toUnmodifiableList;
 import static name.remal.gradle_plugins.sonarlint.internal.SonarLintLanguageIncludes.getAllLanguageIncludes;
-import static name.remal.gradle_plugins.sonarlint.internal.utils.RemoteObjectUtils.exportObject;
-import static name.remal.gradle_plugins.sonarlint.internal.utils.RemoteObjectUtils.unexportObject;
+import static name.remal.gradle_plugins.sonarlint.internal.utils.SonarLintTaskLogSink.getMinEnabledLogLevel;
 import static name.remal.gradle_plugins.toolkit.BuildFeaturesUtils.areIsolatedProjectsRequested;
 import static name.remal.gradle_plugins.toolkit.ClosureUtils.configureWith;
 import static name.remal.gradle_plugins.toolkit.FileCollectionUtils.finalizeFileCollectionValueOnRead;
-import static name.remal.gradle_plugins.toolkit.FileTreeElementUtils.createFileTreeElement;
 import static name.remal.gradle_plugins.toolkit.FileUtils.normalizeFile;
-import static name.remal.gradle_plugins.toolkit.LateInit.lateInit;
 import static name.remal.gradle_plugins.toolkit.LayoutUtils.getCodeFormattingPathsFor;
 import static name.remal.gradle_plugins.toolkit.LayoutUtils.getRootDirOf;
 import static name.remal.gradle_plugins.toolkit.LazyValue.lazyValue;
 import static name.remal.gradle_plugins.toolkit.ObjectUtils.isEmpty;
-import static name.remal.gradle_plugins.toolkit.ObjectUtils.isNotEmpty;
 import static name.remal.gradle_plugins.toolkit.PathUtils.normalizePath;
 import static name.remal.gradle_plugins.toolkit.ReportContainerUtils.createReportContainerFor;
 import static name.remal.gradle_plugins.toolkit.ReportUtils.getReportDestination;
@@ -34,12 +29,13 @@ import static org.gradle.api.tasks.PathSensitivity.RELATIVE;
 import static org.gradle.language.base.plugins.LifecycleBasePlugin.VERIFICATION_GROUP;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import groovy.lang.Closure;
 import groovy.lang.DelegatesTo;
 import java.io.File;
-import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -53,15 +49,18 @@ import java.util.stream.StreamSupport;
 import lombok.Getter;
 import name.remal.gradle_plugins.sonarlint.SonarLintAnalyzeWorkAction.SonarLintAnalyzerFactory;
 import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFileCharsets;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFilesTable;
 import name.remal.gradle_plugins.sonarlint.internal.client.ImmutableSonarLintClientParams;
+import name.remal.gradle_plugins.sonarlint.internal.client.SonarLintClientParams;
+import name.remal.gradle_plugins.sonarlint.internal.server.ImmutableSonarLintParams;
+import name.remal.gradle_plugins.sonarlint.internal.server.SonarLintParams;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
+import name.remal.gradle_plugins.sonarlint.internal.utils.PathPrefixIndex;
 import name.remal.gradle_plugins.sonarlint.internal.utils.SonarLintTaskLogSink;
 import name.remal.gradle_plugins.toolkit.CloseablesContainer;
-import name.remal.gradle_plugins.toolkit.EditorConfig;
-import name.remal.gradle_plugins.toolkit.LateInit;
 import name.remal.gradle_plugins.toolkit.LazyValue;
 import name.remal.gradle_plugins.toolkit.ObjectUtils;
-import name.remal.gradle_plugins.toolkit.PathIsOutOfRootPathException;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.file.ConfigurableFileCollection;
@@ -70,7 +69,6 @@ import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.FileTree;
 import org.gradle.api.file.FileTreeElement;
 import org.gradle.api.file.RegularFileProperty;
-import org.gradle.api.file.RelativePath;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
 import org.gradle.api.reporting.Report;
@@ -83,6 +81,7 @@ import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.VerificationTask;
@@ -111,6 +110,8 @@ public abstract class SonarLint extends AbstractSonarLintTask
     private static final String SONAR_JAVA_TEST_BINARIES = "sonar.java.test.binaries";
     private static final String SONAR_JAVA_TEST_LIBRARIES = "sonar.java.test.libraries";
 
+    private static final int PARALLEL_COLLECTION_MIN_FILES = 1_000;
+
 
     {
         setGroup(VERIFICATION_GROUP);
@@ -151,15 +152,15 @@ public abstract class SonarLint extends AbstractSonarLintTask
 
         if (getSettings().getIsGeneratedCodeIgnored().getOrElse(true)) {
             sources = sources.matching(filter -> {
-                var allBuildDirectories = getProjectsBuildDirectories().getFiles();
+                var allBuildDirectories = new PathPrefixIndex(getProjectsBuildDirectories().getFiles().stream()
+                    .map(File::toPath)
+                    .collect(toList())
+                );
                 if (allBuildDirectories.isEmpty()) {
                     return;
                 }
 
-                filter.exclude(element -> {
-                    var file = element.getFile();
-                    return allBuildDirectories.stream().anyMatch(dir -> file.toPath().startsWith(dir.toPath()));
-                });
+                filter.exclude(element -> allBuildDirectories.containsPrefixOf(element.getFile().toPath()));
             });
         }
 
@@ -391,6 +392,15 @@ public abstract class SonarLint extends AbstractSonarLintTask
         getCodeFormattingFiles().setFrom(getCodeFormattingPathsFor(getProject()));
     }
 
+    @OutputFile
+    protected abstract RegularFileProperty getIssuesStoreFile();
+
+    {
+        getIssuesStoreFile().convention(getProject().getLayout().getBuildDirectory().file(
+            format("sonarlint/%s/issues-store.bin", getName())
+        ));
+    }
+
     //#endregion
 
     @Internal
@@ -410,8 +420,14 @@ public abstract class SonarLint extends AbstractSonarLintTask
         params.getModuleId().set(getModuleId());
 
 
-        var sourceFiles = collectSourceFiles(inputChanges);
-        params.getSourceFiles().set(sourceFiles);
+        var sourceFiles = collectSourceFiles();
+        params.getSourceFiles().set(new SourceFilesTable(normalizeFile(getRootDir().get().getAsFile()), sourceFiles));
+
+        params.getIssuesStoreFile().set(getIssuesStoreFile());
+        if (inputChanges != null && inputChanges.isIncremental()) {
+            params.getIsIncremental().set(true);
+            params.getChangedSourceFiles().set(collectChangedSourceFiles(inputChanges));
+        }
 
 
         var settings = getSettings();
@@ -439,6 +455,8 @@ public abstract class SonarLint extends AbstractSonarLintTask
         params.getDisabledRules().set(settings.getRules().getDisabled());
         params.getAutomaticallyDisabledRules().set(automaticallyDisabledRules);
         params.getRulesProperties().set(settings.getRules().getProperties());
+        params.getAnalysisParallelism().set(settings.getFork().getAnalysisParallelism());
+        params.getMinLogLevel().set(getMinEnabledLogLevel(getLogger()));
 
 
         params.getIsIgnoreFailures().set(getIgnoreFailures());
@@ -446,6 +464,10 @@ public abstract class SonarLint extends AbstractSonarLintTask
         params.getWithDescription().set(settings.getLogging().getWithDescription());
         params.getXmlReportLocation().fileProvider(getSonarLintReportFile(SonarLintReports::getXml));
         params.getHtmlReportLocation().fileProvider(getSonarLintReportFile(SonarLintReports::getHtml));
+
+        if (settings.getIsIssuesCacheEnabled().getOrElse(false)) {
+            params.getIssuesCacheFile().set(new File(getTemporaryDir(), "issues-cache.bin"));
+        }
     }
 
     @TaskAction
@@ -464,24 +486,17 @@ public abstract class SonarLint extends AbstractSonarLintTask
         }
 
 
+        // Does nothing if the server has already been started when the task graph became ready
+        startServerInBackground();
+
+        var serverProcesses = getSettings().getFork().getServerProcesses().getOrElse(1);
+
         var workActionParams = getObjects().newInstance(SonarLintAnalyzeWorkActionParams.class);
         configureWorkActionParams(inputChanges, workActionParams);
 
-        LateInit<InetAddress> clientBindAddress = lateInit();
         SonarLintAnalyzerFactory analyzerFactory = (sonarLintParams, closeables) -> {
-            var forkOptions = getSettings().getFork();
-            var clientParams = ImmutableSonarLintClientParams.builder()
-                .from(sonarLintParams)
-                .javaMajorVersion(forkOptions.getJavaLauncher().get().getMetadata().getLanguageVersion().asInt())
-                .javaRuntimeVersion(forkOptions.getJavaLauncher().get().getMetadata().getJavaRuntimeVersion())
-                .javaExecutable(forkOptions.getJavaLauncher().get().getExecutablePath().getAsFile())
-                .coreClasspath(getCoreClasspath())
-                .addAllCoreClasspath(getCoreLoggingClasspath())
-                .maxHeapSize(forkOptions.getMaxHeapSize().getOrNull())
-                .build();
-            var buildService = getBuildService().get();
-            clientBindAddress.set(buildService.getClientBindAddress(clientParams));
-            return buildService.getAnalyzer(clientParams);
+            var clientParams = createClientParams(sonarLintParams);
+            return getBuildService().get().getAnalyzer(clientParams, serverProcesses);
         };
 
         try (var closeables = new CloseablesContainer()) {
@@ -493,89 +508,120 @@ public abstract class SonarLint extends AbstractSonarLintTask
                 });
             };
 
+            // The log sink is exported by the client of the server that analyzes the sources
             Supplier<SonarLintLogSink> logSinkSupplier = () -> {
                 SonarLintLogSink logSink = new SonarLintTaskLogSink(this);
                 keepHardReferenceOnImplementation.accept(logSink);
-
-                var bindAddress = clientBindAddress.get();
-                var logSinkStub = exportObject(logSink, bindAddress, 0);
-                closeables.registerCloseable(() -> unexportObject(logSinkStub));
-                return logSinkStub;
+                return logSink;
             };
 
             SonarLintAnalyzeWorkAction.executeForParams(workActionParams, analyzerFactory, logSinkSupplier);
         }
     }
 
-    @SuppressWarnings("java:S3776")
-    private Collection<SourceFile> collectSourceFiles(@Nullable InputChanges inputChanges) {
-        var sourceFiles = new ArrayList<SourceFile>();
-        var processedFiles = new LinkedHashSet<File>();
-        var rootDirPath = normalizePath(getRootDir().get().getAsFile().toPath());
-        boolean isTest = getIsTest().get();
-        var editorConfig = new EditorConfig(rootDirPath);
-        Consumer<FileTreeElement> consumer = details -> {
-            var file = normalizeFile(details.getFile());
-            if (!processedFiles.add(file)) {
-                return;
-            }
+    /**
+     * Starts the server, so its startup and warm-up are done while other tasks are executed.
+     *
+     * <p>It's called when the task graph is ready, and at the beginning of the task action,
+     * as task graph listeners aren't called if the configuration cache is reused.
+     */
+    void startServerInBackground() {
+        var isForkEnabled = getIsForkEnabled().getOrElse(true);
+        var isBuildServiceEnabled = getSettings().getFork().getBuildService().getOrElse(true);
+        if (!isForkEnabled || !isBuildServiceEnabled) {
+            return;
+        }
 
-            var relativePath = details.getRelativePath().toString();
-            var filePath = file.toPath();
-            if (filePath.startsWith(rootDirPath)) {
-                relativePath = rootDirPath.relativize(filePath).toString().replace(File.separatorChar, '/');
+        var serverProcesses = getSettings().getFork().getServerProcesses().getOrElse(1);
+        getBuildService().get().startClientInBackground(
+            createClientParams(
+                ImmutableSonarLintParams.builder()
+                    .pluginFiles(getPluginFiles())
+                    .build()
+            ),
+            serverProcesses
+        );
+    }
+
+    private SonarLintClientParams createClientParams(SonarLintParams sonarLintParams) {
+        var forkOptions = getSettings().getFork();
+        return ImmutableSonarLintClientParams.builder()
+            .from(sonarLintParams)
+            .javaMajorVersion(forkOptions.getJavaLauncher().get().getMetadata().getLanguageVersion().asInt())
+            .javaRuntimeVersion(forkOptions.getJavaLauncher().get().getMetadata().getJavaRuntimeVersion())
+            .javaExecutable(forkOptions.getJavaLauncher().get().getExecutablePath().getAsFile())
+            .coreClasspath(getCoreClasspath())
+            .addAllCoreClasspath(getCoreLoggingClasspath())
+            .maxHeapSize(forkOptions.getMaxHeapSize().getOrNull())
+            .build();
+    }
+
+    /**
+     * Source files are normalized and their charsets are resolved concurrently,
+     * if there are at least {@link #PARALLEL_COLLECTION_MIN_FILES} of them.
+     *
+     * <p>Visited files are split into consecutive chunks, and every chunk is processed by a single thread
+     * with its own {@link SourceFileCharsets}, as {@code EditorConfig} isn't thread-safe.
+     * Chunks are joined in the visiting order, so the work action params stay deterministic.
+     */
+    private List<SourceFile> collectSourceFiles() {
+        var visitedFiles = new ArrayList<Map.Entry<File, String>>();
+        getSources().visit(details -> {
+            if (!details.isDirectory()) {
+                visitedFiles.add(Map.entry(details.getFile(), details.getRelativePath().toString()));
             }
+        });
 
-            final String charsetName;
-            {
-                Map<String, String> editorConfigProperties;
-                try {
-                    editorConfigProperties = editorConfig.getPropertiesFor(file);
-                } catch (PathIsOutOfRootPathException e) {
-                    var extension = getFileExtension(file.getName());
-                    if (isEmpty(extension)) {
-                        editorConfigProperties = emptyMap();
-                    } else {
-                        editorConfigProperties = editorConfig.getPropertiesForFileExtension(extension);
-                    }
+        var rootDirPath = normalizePath(getRootDir().get().getAsFile().toPath());
+        boolean isTest = getIsTest().get();
+        Function<List<Map.Entry<File, String>>, List<SourceFile>> collectChunk = chunk -> {
+            var charsets = new SourceFileCharsets(rootDirPath);
+            var chunkSourceFiles = new ArrayList<SourceFile>(chunk.size());
+            for (var visitedFile : chunk) {
+                var file = normalizeFile(visitedFile.getKey());
+
+                var relativePath = visitedFile.getValue();
+                var filePath = file.toPath();
+                if (filePath.startsWith(rootDirPath)) {
+                    relativePath = rootDirPath.relativize(filePath).toString().replace(File.separatorChar, '/');
                 }
 
-                var charsetString = editorConfigProperties.get("charset");
-                if (isNotEmpty(charsetString)) {
-                    charsetName = charsetString.toUpperCase();
-                } else {
-                    charsetName = UTF_8.name();
-                }
+                chunkSourceFiles.add(SourceFile.builder()
+                    .file(file)
+                    .relativePath(relativePath)
+                    .test(isTest)
+                    .encoding(charsets.getCharsetName(file))
+                    .build());
             }
-
-            sourceFiles.add(SourceFile.builder()
-                .file(file)
-                .relativePath(relativePath)
-                .test(isTest)
-                .encoding(charsetName)
-                .build());
+            return chunkSourceFiles;
         };
 
-        if (inputChanges != null && inputChanges.isIncremental() && !getIgnoreFailures()) {
-            inputChanges.getFileChanges(getSources()).forEach(change -> {
-                if (change.getChangeType() == ChangeType.REMOVED) {
-                    return;
-                }
-
-                var relativePath = RelativePath.parse(true, change.getNormalizedPath());
-                var details = createFileTreeElement(change.getFile(), relativePath);
-                consumer.accept(details);
-            });
-
+        final List<SourceFile> sourceFiles;
+        var parallelism = Runtime.getRuntime().availableProcessors();
+        if (visitedFiles.size() < PARALLEL_COLLECTION_MIN_FILES || parallelism <= 1) {
+            sourceFiles = collectChunk.apply(visitedFiles);
         } else {
-            getSources().visit(details -> {
-                if (!details.isDirectory()) {
-                    consumer.accept(details);
-                }
-            });
+            var chunkSize = divide(visitedFiles.size(), parallelism, CEILING);
+            sourceFiles = Lists.partition(visitedFiles, chunkSize).parallelStream()
+                .map(collectChunk)
+                .flatMap(List::stream)
+                .collect(toList());
         }
 
-        return sourceFiles;
+        var processedFiles = new HashSet<File>();
+        return sourceFiles.stream()
+            .filter(sourceFile -> processedFiles.add(sourceFile.getFile()))
+            .collect(toList());
+    }
+
+    private Set<File> collectChangedSourceFiles(InputChanges inputChanges) {
+        var changedFiles = new LinkedHashSet<File>();
+        inputChanges.getFileChanges(getSources()).forEach(change -> {
+            if (change.getChangeType() != ChangeType.REMOVED) {
+                changedFiles.add(normalizeFile(change.getFile()));
+            }
+        });
+        return changedFiles;
     }
 
     @Contract(mutates = "param1")
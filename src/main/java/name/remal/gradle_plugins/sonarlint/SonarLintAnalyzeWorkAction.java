@@ -2,12 +2,20 @@ package name.remal.gradle_plugins.sonarlint;
 
 import static java.lang.String.format;
 import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toUnmodifiableList;
 import static lombok.AccessLevel.PUBLIC;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesCache.computeIssuesCacheFingerprint;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesStore.loadIssuesStore;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesStore.newIssuesStore;
+import static name.remal.gradle_plugins.sonarlint.internal.server.SonarLintSharedCodeCache.acquireSharedCode;
+import static name.remal.gradle_plugins.sonarlint.internal.server.SonarLintSharedCodeCache.releaseSharedCode;
 import static name.remal.gradle_plugins.toolkit.ObjectUtils.unwrapProviders;
 import static name.remal.gradle_plugins.toolkit.PathUtils.tryToDeleteRecursivelyIgnoringFailure;
 import static name.remal.gradle_plugins.toolkit.VerificationExceptionUtils.newVerificationException;
+import static org.slf4j.event.Level.TRACE;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -18,11 +26,12 @@ import javax.inject.Inject;
 import lombok.CustomLog;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
 import name.remal.gradle_plugins.sonarlint.internal.server.ImmutableSonarLintParams;
 import name.remal.gradle_plugins.sonarlint.internal.server.SonarLintAnalyzerDefault;
 import name.remal.gradle_plugins.sonarlint.internal.server.SonarLintParams;
-import name.remal.gradle_plugins.sonarlint.internal.server.SonarLintSharedCode;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.ImmutableSonarLintAnalyzeParams;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParams;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzer;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
 import name.remal.gradle_plugins.toolkit.CloseablesContainer;
@@ -42,9 +51,8 @@ abstract class SonarLintAnalyzeWorkAction
     public void execute() {
         var params = getParameters();
         SonarLintAnalyzerFactory analyzerFactory = (sonarLintParams, closeables) -> {
-            var shared = closeables.registerCloseable(
-                new SonarLintSharedCode(sonarLintParams)
-            );
+            var shared = acquireSharedCode(sonarLintParams);
+            closeables.registerCloseable(() -> releaseSharedCode(shared));
             return new SonarLintAnalyzerDefault(shared);
         };
         executeForParams(params, analyzerFactory, null);
@@ -79,8 +87,27 @@ abstract class SonarLintAnalyzeWorkAction
             .filter(not(enabledRules::contains))
             .forEach(disabledRules::add);
 
-        final Collection<Issue> issues;
-        var sourceFiles = params.getSourceFiles().get();
+        // Source files are read several times below, so they are created once
+        var allSourceFiles = List.copyOf(params.getSourceFiles().get().getSourceFiles());
+        var sourceFiles = allSourceFiles;
+        var issuesStoreFile = params.getIssuesStoreFile().getAsFile().getOrNull();
+        SonarLintIssuesStore issuesStore = null;
+        if (issuesStoreFile != null) {
+            if (params.getIsIncremental().getOrElse(false)) {
+                issuesStore = loadIssuesStore(issuesStoreFile);
+            }
+
+            if (issuesStore != null) {
+                var changedSourceFiles = params.getChangedSourceFiles().get();
+                sourceFiles = allSourceFiles.stream()
+                    .filter(sourceFile -> changedSourceFiles.contains(sourceFile.getFile()))
+                    .collect(toUnmodifiableList());
+            } else {
+                issuesStore = newIssuesStore(issuesStoreFile);
+            }
+        }
+
+        Collection<Issue> issues;
         if (sourceFiles.isEmpty()) {
             issues = List.of();
 
@@ -113,12 +140,34 @@ abstract class SonarLintAnalyzeWorkAction
                     .enabledRulesConfig(enabledRules)
                     .disabledRulesConfig(disabledRules)
                     .rulesPropertiesConfig(rulesPropertiesConfig)
+                    .analysisParallelism(Math.max(params.getAnalysisParallelism().getOrElse(1), 1))
+                    .minLogLevel(params.getMinLogLevel().getOrElse(TRACE))
                     .build();
                 var logSink = logSinkSupplier != null ? logSinkSupplier.get() : null;
-                issues = analyzer.analyze(analyzeParams, logSink);
+
+                var issuesCacheFile = params.getIssuesCacheFile().getAsFile().getOrNull();
+                if (issuesCacheFile == null) {
+                    issues = analyzer.analyze(analyzeParams, logSink);
+                } else {
+                    issues = analyzeWithIssuesCache(
+                        analyzer,
+                        analyzeParams,
+                        logSink,
+                        SonarLintIssuesCache.loadIssuesCache(
+                            issuesCacheFile,
+                            computeIssuesCacheFingerprint(params.getPluginFiles().getFiles(), analyzeParams)
+                        )
+                    );
+                }
             }
         }
 
+        if (issuesStore != null) {
+            issuesStore.update(allSourceFiles, sourceFiles, issues);
+            issuesStore.save();
+            issues = issuesStore.getIssues(allSourceFiles);
+        }
+
         if (xmlReportLocation != null) {
             new CheckstyleXmlIssuesRenderer().renderIssuesToFile(issues, xmlReportLocation);
         }
@@ -171,4 +220,48 @@ abstract class SonarLintAnalyzeWorkAction
         }
     }
 
+    @SneakyThrows
+    private static Collection<Issue> analyzeWithIssuesCache(
+        SonarLintAnalyzer analyzer,
+        SonarLintAnalyzeParams analyzeParams,
+        @Nullable SonarLintLogSink logSink,
+        SonarLintIssuesCache issuesCache
+    ) {
+        var issues = new ArrayList<Issue>();
+        var changedSourceFiles = new ArrayList<SourceFile>();
+        for (var sourceFile : analyzeParams.getSourceFiles()) {
+            var cachedIssues = issuesCache.getCachedIssues(sourceFile);
+            if (cachedIssues != null) {
+                issues.addAll(cachedIssues);
+            } else {
+                changedSourceFiles.add(sourceFile);
+            }
+        }
+
+        var cachedSourceFilesCount = analyzeParams.getSourceFiles().size() - changedSourceFiles.size();
+        if (cachedSourceFilesCount > 0) {
+            logger.info("Reusing cached SonarLint issues for {} unchanged source files", cachedSourceFilesCount);
+        }
+
+        if (!changedSourceFiles.isEmpty()) {
+            var changedIssues = analyzer.analyze(
+                ImmutableSonarLintAnalyzeParams.copyOf(analyzeParams).withSourceFiles(changedSourceFiles),
+                logSink
+            );
+            issues.addAll(changedIssues);
+
+            var changedIssuesByFile = changedIssues.stream()
+                .collect(groupingBy(Issue::getSourceFile));
+            for (var sourceFile : changedSourceFiles) {
+                issuesCache.putIssues(
+                    sourceFile,
+                    changedIssuesByFile.getOrDefault(sourceFile.getFile(), List.of())
+                );
+            }
+        }
+
+        issuesCache.save();
+        return issues;
+    }
+
 }
@@ -1,13 +1,14 @@
 package name.remal.gradle_plugins.sonarlint;
 
+import java.io.File;
 import java.util.Map;
-import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFilesTable;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.RegularFileProperty;
-import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.SetProperty;
+import org.slf4j.event.Level;
 
 interface SonarLintAnalyzeWorkActionParams extends AbstractSonarLintTaskWorkActionParams {
 
@@ -16,7 +17,13 @@ interface SonarLintAnalyzeWorkActionParams extends AbstractSonarLintTaskWorkActi
     Property<String> getModuleId();
 
 
-    ListProperty<SourceFile> getSourceFiles();
+    Property<SourceFilesTable> getSourceFiles();
+
+    Property<Boolean> getIsIncremental();
+
+    SetProperty<File> getChangedSourceFiles();
+
+    RegularFileProperty getIssuesStoreFile();
 
     MapProperty<String, String> getSonarProperties();
 
@@ -28,6 +35,10 @@ interface SonarLintAnalyzeWorkActionParams extends AbstractSonarLintTaskWorkActi
 
     MapProperty<String, Map<String, String>> getRulesProperties();
 
+    Property<Integer> getAnalysisParallelism();
+
+    Property<Level> getMinLogLevel();
+
 
     Property<Boolean> getIsIgnoreFailures();
 
@@ -39,4 +50,6 @@ interface SonarLintAnalyzeWorkActionParams extends AbstractSonarLintTaskWorkActi
 
     RegularFileProperty getHtmlReportLocation();
 
+    RegularFileProperty getIssuesCacheFile();
+
 }
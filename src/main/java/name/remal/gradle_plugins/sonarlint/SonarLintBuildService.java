@@ -2,13 +2,12 @@ package name.remal.gradle_plugins.sonarlint;
 
 import static lombok.AccessLevel.PUBLIC;
 
-import java.net.InetAddress;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import javax.inject.Inject;
 import lombok.NoArgsConstructor;
-import name.remal.gradle_plugins.sonarlint.internal.client.SonarLintClient;
 import name.remal.gradle_plugins.sonarlint.internal.client.SonarLintClientParams;
+import name.remal.gradle_plugins.sonarlint.internal.client.SonarLintClientsPool;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzer;
 import name.remal.gradle_plugins.toolkit.AbstractCloseablesContainer;
 import org.gradle.api.services.BuildService;
@@ -19,22 +18,27 @@ abstract class SonarLintBuildService
     extends AbstractCloseablesContainer
     implements BuildService<BuildServiceParameters.None>, AutoCloseable {
 
-    public SonarLintAnalyzer getAnalyzer(SonarLintClientParams clientParams) {
-        return getClient(clientParams).getAnalyzer();
+    public SonarLintAnalyzer getAnalyzer(SonarLintClientParams clientParams, int serverProcesses) {
+        var clientsPool = getClientsPool(clientParams);
+        clientsPool.ensureSize(serverProcesses);
+        return clientsPool.getAnalyzer();
     }
 
-    public InetAddress getClientBindAddress(SonarLintClientParams clientParams) {
-        return getClient(clientParams).getBindAddress();
+    public void startClientInBackground(SonarLintClientParams clientParams, int serverProcesses) {
+        var clientsPool = getClientsPool(clientParams);
+        clientsPool.ensureSize(serverProcesses);
+        clientsPool.startInBackground();
     }
 
 
-    private final ConcurrentMap<SonarLintClientParams, SonarLintClient> clientsCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SonarLintClientParams, SonarLintClientsPool> clientsPoolsCache =
+        new ConcurrentHashMap<>();
 
     @SuppressWarnings("resource")
-    private SonarLintClient getClient(SonarLintClientParams params) {
-        return clientsCache.computeIfAbsent(params, currentParams -> {
-            registerCloseable(() -> clientsCache.remove(currentParams));
-            return registerCloseable(new SonarLintClient(currentParams));
+    private SonarLintClientsPool getClientsPool(SonarLintClientParams params) {
+        return clientsPoolsCache.computeIfAbsent(params, currentParams -> {
+            registerCloseable(() -> clientsPoolsCache.remove(currentParams));
+            return registerCloseable(new SonarLintClientsPool(currentParams));
         });
     }
 
@@ -37,6 +37,22 @@ public abstract class SonarLintForkSettings {
     public abstract Property<String> getMaxHeapSize();
 
 
+    @Internal
+    public abstract Property<Integer> getAnalysisParallelism();
+
+    {
+        getAnalysisParallelism().convention(1);
+    }
+
+
+    @Internal
+    public abstract Property<Integer> getServerProcesses();
+
+    {
+        getServerProcesses().convention(1);
+    }
+
+
     @Nested
     @org.gradle.api.tasks.Optional
     public abstract Property<JavaLauncher> getJavaLauncher();
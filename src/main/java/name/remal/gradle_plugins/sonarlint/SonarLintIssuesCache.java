@@ -0,0 +1,238 @@
+package name.remal.gradle_plugins.sonarlint;
+
+import static com.google.common.hash.Hashing.sha256;
+import static com.google.common.io.Files.asByteSource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static name.remal.gradle_plugins.build_time_constants.api.BuildTimeConstants.getStringProperty;
+import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.deserializeFrom;
+import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.serializeToBytes;
+
+import com.google.common.hash.Hasher;
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.CustomLog;
+import lombok.Value;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParams;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A per-task cache of issues, keyed by the source file content.
+ *
+ * <p>The whole cache is invalidated if the analysis configuration or the Sonar plugins change
+ * (see {@link #computeIssuesCacheFingerprint(Collection, SonarLintAnalyzeParams)}).
+ */
+@CustomLog
+class SonarLintIssuesCache {
+
+    private final File cacheFile;
+
+    private final String fingerprint;
+
+    private final Map<String, CachedFileIssues> previousEntries;
+
+    private final Map<String, CachedFileIssues> currentEntries = new LinkedHashMap<>();
+
+    private final Map<String, String> missedFileKeys = new LinkedHashMap<>();
+
+    private SonarLintIssuesCache(File cacheFile, String fingerprint, Map<String, CachedFileIssues> previousEntries) {
+        this.cacheFile = cacheFile;
+        this.fingerprint = fingerprint;
+        this.previousEntries = previousEntries;
+    }
+
+    public static SonarLintIssuesCache loadIssuesCache(File cacheFile, String fingerprint) {
+        Map<String, CachedFileIssues> previousEntries = Map.of();
+        if (cacheFile.isFile()) {
+            try {
+                var data = deserializeFrom(readAllBytes(cacheFile.toPath()), IssuesCacheData.class);
+                if (fingerprint.equals(data.getFingerprint())) {
+                    previousEntries = data.getEntries();
+                } else {
+                    logger.info("SonarLint configuration has changed, issues cache is invalidated");
+                }
+            } catch (Exception e) {
+                logger.warn("Issues cache can't be read, ignoring it: {}", cacheFile, e);
+            }
+        }
+
+        return new SonarLintIssuesCache(cacheFile, fingerprint, previousEntries);
+    }
+
+
+    @Nullable
+    @Unmodifiable
+    public List<Issue> getCachedIssues(SourceFile sourceFile) {
+        var relativePath = sourceFile.getRelativePath();
+        var fileKey = computeFileKey(sourceFile);
+        if (fileKey == null) {
+            return null;
+        }
+
+        var entry = previousEntries.get(relativePath);
+        if (entry != null
+            && entry.getFileKey().equals(fileKey)
+            && entry.getFile().equals(sourceFile.getFile())
+        ) {
+            currentEntries.put(relativePath, entry);
+            return List.copyOf(entry.getIssues());
+        }
+
+        missedFileKeys.put(relativePath, fileKey);
+        return null;
+    }
+
+    public void putIssues(SourceFile sourceFile, Collection<Issue> issues) {
+        var relativePath = sourceFile.getRelativePath();
+        var fileKey = missedFileKeys.remove(relativePath);
+        if (fileKey == null) {
+            fileKey = computeFileKey(sourceFile);
+            if (fileKey == null) {
+                return;
+            }
+        }
+
+        currentEntries.put(relativePath, new CachedFileIssues(
+            fileKey,
+            sourceFile.getFile(),
+            new ArrayList<>(issues)
+        ));
+    }
+
+    /**
+     * Writes all the entries that were read or put during the current execution.
+     * Other previous entries are kept while their files exist, as incremental executions analyze only changed files.
+     */
+    public void save() {
+        try {
+            var entries = new LinkedHashMap<>(currentEntries);
+            previousEntries.forEach((relativePath, entry) -> {
+                if (!entries.containsKey(relativePath) && entry.getFile().isFile()) {
+                    entries.put(relativePath, entry);
+                }
+            });
+
+            var data = new IssuesCacheData(fingerprint, entries);
+            var cachePath = cacheFile.toPath();
+            createDirectories(cachePath.getParent());
+            var tempPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+            write(tempPath, serializeToBytes(data));
+            move(tempPath, cachePath, REPLACE_EXISTING);
+        } catch (Exception e) {
+            logger.warn("Issues cache can't be written: {}", cacheFile, e);
+        }
+    }
+
+
+    @Nullable
+    private static String computeFileKey(SourceFile sourceFile) {
+        final String contentHash;
+        try {
+            contentHash = asByteSource(sourceFile.getFile()).hash(sha256()).toString();
+        } catch (Exception e) {
+            logger.debug("Source file can't be hashed: {}", sourceFile.getFile(), e);
+            return null;
+        }
+
+        var hasher = sha256().newHasher();
+        putString(hasher, sourceFile.getRelativePath());
+        putString(hasher, String.valueOf(sourceFile.getEncoding()));
+        hasher.putBoolean(sourceFile.isTest());
+        putString(hasher, contentHash);
+        return hasher.hash().toString();
+    }
+
+
+    public static String computeIssuesCacheFingerprint(
+        Collection<File> pluginFiles,
+        SonarLintAnalyzeParams analyzeParams
+    ) {
+        var hasher = sha256().newHasher();
+        putString(hasher, getStringProperty("project.version"));
+
+        pluginFiles.stream()
+            .map(SonarLintIssuesCache::hashPluginFile)
+            .sorted()
+            .forEach(hash -> putString(hasher, hash));
+
+        putString(hasher, analyzeParams.getRepositoryRoot().getPath());
+        putString(hasher, analyzeParams.getModuleId());
+
+        analyzeParams.getEnabledLanguages().stream()
+            .map(Enum::name)
+            .sorted()
+            .forEach(lang -> putString(hasher, lang));
+
+        new TreeMap<>(analyzeParams.getSonarProperties()).forEach((key, value) -> {
+            putString(hasher, key);
+            putString(hasher, value);
+        });
+
+        hasher.putBoolean(analyzeParams.isEnableRulesActivatedByDefault());
+        new TreeSet<>(analyzeParams.getEnabledRulesConfig()).forEach(rule -> putString(hasher, "+" + rule));
+        new TreeSet<>(analyzeParams.getDisabledRulesConfig()).forEach(rule -> putString(hasher, "-" + rule));
+        new TreeMap<>(analyzeParams.getRulesPropertiesConfig()).forEach((rule, props) -> {
+            putString(hasher, rule);
+            new TreeMap<>(props).forEach((key, value) -> {
+                putString(hasher, key);
+                putString(hasher, value);
+            });
+        });
+
+        return hasher.hash().toString();
+    }
+
+    private static final ConcurrentMap<String, String> PLUGIN_FILE_HASHES = new ConcurrentHashMap<>();
+
+    private static String hashPluginFile(File file) {
+        // Plugin files are immutable in practice, so their hashes are cached for the lifetime of the class loader
+        var cacheKey = file.getAbsolutePath() + '|' + file.length() + '|' + file.lastModified();
+        return PLUGIN_FILE_HASHES.computeIfAbsent(cacheKey, __ -> {
+            if (!file.isFile()) {
+                return file.getAbsolutePath();
+            }
+
+            try {
+                return asByteSource(file).hash(sha256()).toString();
+            } catch (Exception e) {
+                return cacheKey;
+            }
+        });
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length());
+        hasher.putString(value, UTF_8);
+    }
+
+
+    @Value
+    private static class IssuesCacheData implements Serializable {
+        String fingerprint;
+        Map<String, CachedFileIssues> entries;
+    }
+
+    @Value
+    private static class CachedFileIssues implements Serializable {
+        String fileKey;
+        File file;
+        List<Issue> issues;
+    }
+
+}
@@ -0,0 +1,130 @@
+package name.remal.gradle_plugins.sonarlint;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toSet;
+import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.deserializeFrom;
+import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.serializeToBytes;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.CustomLog;
+import lombok.Value;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Issues of all source files of the task, kept between incremental executions.
+ *
+ * <p>Incremental executions analyze only changed source files.
+ * Issues of other source files are taken from this store, so the reports are always complete.
+ */
+@CustomLog
+class SonarLintIssuesStore {
+
+    private final File storeFile;
+
+    private final Map<String, List<Issue>> issuesByFile;
+
+    private SonarLintIssuesStore(File storeFile, Map<String, List<Issue>> issuesByFile) {
+        this.storeFile = storeFile;
+        this.issuesByFile = issuesByFile;
+    }
+
+    public static SonarLintIssuesStore newIssuesStore(File storeFile) {
+        return new SonarLintIssuesStore(storeFile, new LinkedHashMap<>());
+    }
+
+    /**
+     * Returns {@code null} if the store doesn't exist or can't be read.
+     * In this case, all the source files have to be analyzed.
+     */
+    @Nullable
+    public static SonarLintIssuesStore loadIssuesStore(File storeFile) {
+        if (!storeFile.isFile()) {
+            return null;
+        }
+
+        try {
+            var data = deserializeFrom(readAllBytes(storeFile.toPath()), IssuesStoreData.class);
+            return new SonarLintIssuesStore(storeFile, new LinkedHashMap<>(data.getIssuesByFile()));
+        } catch (Exception e) {
+            logger.warn("Issues store can't be read, analyzing all source files: {}", storeFile, e);
+            return null;
+        }
+    }
+
+
+    /**
+     * Replaces issues of the analyzed source files and drops issues of source files that are no longer analyzed.
+     */
+    public void update(
+        Collection<SourceFile> allSourceFiles,
+        Collection<SourceFile> analyzedSourceFiles,
+        Collection<Issue> analyzedIssues
+    ) {
+        var allFileKeys = allSourceFiles.stream()
+            .map(SonarLintIssuesStore::getFileKey)
+            .collect(toSet());
+        issuesByFile.keySet().retainAll(allFileKeys);
+
+        analyzedSourceFiles.forEach(sourceFile ->
+            issuesByFile.put(getFileKey(sourceFile), new ArrayList<>())
+        );
+
+        analyzedIssues.forEach(issue ->
+            issuesByFile.computeIfAbsent(getFileKey(issue.getSourceFile()), __ -> new ArrayList<>()).add(issue)
+        );
+    }
+
+    @Unmodifiable
+    public List<Issue> getIssues(Collection<SourceFile> sourceFiles) {
+        var issues = new ArrayList<Issue>();
+        sourceFiles.forEach(sourceFile -> {
+            var fileIssues = issuesByFile.get(getFileKey(sourceFile));
+            if (fileIssues != null) {
+                issues.addAll(fileIssues);
+            }
+        });
+        return List.copyOf(issues);
+    }
+
+    public void save() {
+        try {
+            var data = new IssuesStoreData(new LinkedHashMap<>(issuesByFile));
+            var storePath = storeFile.toPath();
+            createDirectories(storePath.getParent());
+            var tempPath = storePath.resolveSibling(storePath.getFileName() + ".tmp");
+            write(tempPath, serializeToBytes(data));
+            move(tempPath, storePath, REPLACE_EXISTING);
+        } catch (Exception e) {
+            logger.warn("Issues store can't be written: {}", storeFile, e);
+        }
+    }
+
+
+    private static String getFileKey(SourceFile sourceFile) {
+        return getFileKey(sourceFile.getFile());
+    }
+
+    private static String getFileKey(File file) {
+        return file.getAbsolutePath();
+    }
+
+
+    @Value
+    private static class IssuesStoreData implements Serializable {
+        Map<String, List<Issue>> issuesByFile;
+    }
+
+}
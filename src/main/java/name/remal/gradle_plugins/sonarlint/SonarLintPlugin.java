@@ -20,6 +20,8 @@ import static name.remal.gradle_plugins.sonarlint.SonarDependencies.SONARLINT_CO
 import static name.remal.gradle_plugins.sonarlint.SonarDependencies.SONARLINT_CORE_RESOLVED_DEPENDENCIES;
 import static name.remal.gradle_plugins.sonarlint.SonarJavascriptPluginInfo.SONAR_JAVASCRIPT_PLUGIN_DEPENDENCY;
 import static name.remal.gradle_plugins.toolkit.AttributeContainerUtils.javaRuntimeLibrary;
+import static name.remal.gradle_plugins.toolkit.BuildFeaturesUtils.areIsolatedProjectsRequested;
+import static name.remal.gradle_plugins.toolkit.BuildFeaturesUtils.isConfigurationCacheRequested;
 import static name.remal.gradle_plugins.toolkit.GradleManagedObjectsUtils.copyManagedProperties;
 import static name.remal.gradle_plugins.toolkit.LazyValue.lazyValue;
 import static name.remal.gradle_plugins.toolkit.ObjectUtils.doNotInline;
@@ -317,6 +319,19 @@ public abstract class SonarLintPlugin extends AbstractSettingsAwarePlugin {
             task.getBuildService().set(buildService);
             task.usesService(buildService);
         });
+
+        // With the configuration cache, tasks and build services are recreated from the cache entry,
+        // so the server is started by the task action only
+        var gradle = project.getGradle();
+        if (!isConfigurationCacheRequested(gradle) && !areIsolatedProjectsRequested(gradle)) {
+            gradle.getTaskGraph().whenReady(graph ->
+                graph.getAllTasks().stream()
+                    .filter(SonarLint.class::isInstance)
+                    .map(SonarLint.class::cast)
+                    .filter(task -> task.getProject() == project)
+                    .forEach(SonarLint::startServerInBackground)
+            );
+        }
     }
 
 
@@ -7,6 +7,7 @@ import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.Console;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Nested;
 import org.jspecify.annotations.Nullable;
 
@@ -68,6 +69,14 @@ public abstract class SonarLintSettings {
     }
 
 
+    @Internal
+    public abstract Property<Boolean> getIsIssuesCacheEnabled();
+
+    {
+        getIsIssuesCacheEnabled().convention(false);
+    }
+
+
     @Nested
     public abstract SonarLintLoggingSettings getLogging();
 
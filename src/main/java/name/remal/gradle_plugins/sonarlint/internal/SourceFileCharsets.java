@@ -0,0 +1,64 @@
+package name.remal.gradle_plugins.sonarlint.internal;
+
+import static com.google.common.io.Files.getFileExtension;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static name.remal.gradle_plugins.toolkit.ObjectUtils.isEmpty;
+import static name.remal.gradle_plugins.toolkit.ObjectUtils.isNotEmpty;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import name.remal.gradle_plugins.toolkit.EditorConfig;
+import name.remal.gradle_plugins.toolkit.PathIsOutOfRootPathException;
+
+/**
+ * Resolves charsets of source files from {@code .editorconfig} files.
+ *
+ * <p>Files in the root directory are resolved by {@link EditorConfig} one by one,
+ * as {@code .editorconfig} sections can match any part of a file name.
+ * Files out of the root directory are resolved by their extension only, so they are memoized by extension.
+ *
+ * <p>Not thread-safe. Use an instance per thread for concurrent resolution.
+ */
+public class SourceFileCharsets {
+
+    private final Path rootDirPath;
+
+    private final EditorConfig editorConfig;
+
+    private final Map<String, String> outOfRootCharsetNames = new HashMap<>();
+
+    public SourceFileCharsets(Path rootDirPath) {
+        this.rootDirPath = rootDirPath;
+        this.editorConfig = new EditorConfig(rootDirPath);
+    }
+
+    public String getCharsetName(File file) {
+        if (file.toPath().startsWith(rootDirPath)) {
+            try {
+                return toCharsetName(editorConfig.getPropertiesFor(file));
+            } catch (PathIsOutOfRootPathException e) {
+                // resolve by the extension
+            }
+        }
+
+        return outOfRootCharsetNames.computeIfAbsent(getFileExtension(file.getName()), extension -> {
+            Map<String, String> editorConfigProperties = isEmpty(extension)
+                ? emptyMap()
+                : editorConfig.getPropertiesForFileExtension(extension);
+            return toCharsetName(editorConfigProperties);
+        });
+    }
+
+    private static String toCharsetName(Map<String, String> editorConfigProperties) {
+        var charsetString = editorConfigProperties.get("charset");
+        if (isNotEmpty(charsetString)) {
+            return charsetString.toUpperCase();
+        } else {
+            return UTF_8.name();
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package name.remal.gradle_plugins.sonarlint.internal;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compact serializable table of {@link SourceFile}s of a single repository.
+ *
+ * <p>Files are stored by their path relative to the repository root, if they are there.
+ * Every distinct encoding is stored once, and test flags are stored as a bit set.
+ */
+public final class SourceFilesTable implements Serializable {
+
+    private final File repositoryRoot;
+
+    private final String[] relativePaths;
+
+    /**
+     * Absolute paths of the files that are not resolved by their relative paths against the repository root,
+     * {@code null} for all other files.
+     */
+    private final @Nullable String[] filePaths;
+
+    private final String[] encodings;
+
+    /**
+     * Indexes in {@link #encodings}, {@code -1} for files without an encoding.
+     */
+    private final int[] encodingIndexes;
+
+    private final BitSet tests;
+
+    public SourceFilesTable(File repositoryRoot, List<SourceFile> sourceFiles) {
+        this.repositoryRoot = repositoryRoot;
+
+        var size = sourceFiles.size();
+        this.relativePaths = new String[size];
+        this.filePaths = new String[size];
+        this.encodingIndexes = new int[size];
+        this.tests = new BitSet(size);
+
+        var encodingIndexesMap = new LinkedHashMap<String, Integer>();
+        for (var index = 0; index < size; index++) {
+            var sourceFile = sourceFiles.get(index);
+
+            relativePaths[index] = sourceFile.getRelativePath();
+
+            var file = sourceFile.getFile();
+            if (!new File(repositoryRoot, sourceFile.getRelativePath()).equals(file)) {
+                filePaths[index] = file.getPath();
+            }
+
+            var encoding = sourceFile.getEncoding();
+            encodingIndexes[index] = encoding != null
+                ? encodingIndexesMap.computeIfAbsent(encoding, __ -> encodingIndexesMap.size())
+                : -1;
+
+            tests.set(index, sourceFile.isTest());
+        }
+        this.encodings = encodingIndexesMap.keySet().toArray(new String[0]);
+    }
+
+    public int size() {
+        return relativePaths.length;
+    }
+
+    public SourceFile get(int index) {
+        var relativePath = relativePaths[index];
+        var filePath = filePaths[index];
+        var encodingIndex = encodingIndexes[index];
+        return SourceFile.builder()
+            .file(filePath != null ? new File(filePath) : new File(repositoryRoot, relativePath))
+            .relativePath(relativePath)
+            .test(tests.get(index))
+            .encoding(encodingIndex >= 0 ? encodings[encodingIndex] : null)
+            .build();
+    }
+
+    /**
+     * Returns a view that creates {@link SourceFile}s on every access.
+     * Copy it, if it's read more than once.
+     */
+    public List<SourceFile> getSourceFiles() {
+        return new SourceFilesView();
+    }
+
+
+    private class SourceFilesView extends AbstractList<SourceFile> implements RandomAccess {
+
+        @Override
+        public SourceFile get(int index) {
+            return SourceFilesTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return SourceFilesTable.this.size();
+        }
+
+    }
+
+}
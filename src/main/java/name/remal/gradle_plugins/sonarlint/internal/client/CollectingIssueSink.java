@@ -0,0 +1,46 @@
+package name.remal.gradle_plugins.sonarlint.internal.client;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueUtils.sortIssues;
+import static name.remal.gradle_plugins.toolkit.issues.HtmlMessage.htmlMessageOf;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssue;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueSink;
+import name.remal.gradle_plugins.toolkit.issues.HtmlMessage;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+
+/**
+ * Collects issues of a single analysis.
+ * Duplicates are dropped as chunks arrive, and issues are sorted once all chunks are received.
+ * Issues of the same rule share the description instance.
+ *
+ * <p>All issues are kept until the analysis finishes, as reports, the issues cache and the failure check
+ * need the complete sorted set. Chunks only keep RMI messages small and send every rule description once.
+ */
+class CollectingIssueSink implements SonarLintIssueSink {
+
+    private final Map<String, HtmlMessage> descriptions = new HashMap<>();
+
+    private final Set<SonarLintIssue> issues = new HashSet<>();
+
+    @Override
+    public synchronized void onIssues(List<SonarLintIssue> issues, Map<String, String> ruleHtmlDescriptions) {
+        ruleHtmlDescriptions.forEach((rule, htmlDescription) ->
+            descriptions.put(rule, htmlMessageOf(htmlDescription))
+        );
+
+        this.issues.addAll(issues);
+    }
+
+    public synchronized List<Issue> getIssues() {
+        return sortIssues(issues).stream()
+            .map(issue -> issue.toIssue(descriptions.get(issue.getRule())))
+            .collect(toUnmodifiableList());
+    }
+
+}
@@ -0,0 +1,79 @@
+package name.remal.gradle_plugins.sonarlint.internal.client;
+
+import static name.remal.gradle_plugins.sonarlint.internal.utils.RemoteObjectUtils.exportObject;
+import static name.remal.gradle_plugins.sonarlint.internal.utils.RemoteObjectUtils.unexportObject;
+
+import java.net.InetAddress;
+import java.rmi.RemoteException;
+import java.util.Collection;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParams;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsEncoder;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzer;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueSink;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sends analyze params to a remote {@link SonarLintAnalyzer} encoded by {@link SonarLintAnalyzeParamsEncoder},
+ * instead of Java serialization, and receives issues in chunks.
+ *
+ * <p>An encoder is bound to a single server, as it relies on Sonar properties previously sent to it.
+ *
+ * <p>A log sink passed to {@link #analyze(SonarLintAnalyzeParams, SonarLintLogSink)} must be a local object.
+ * It's exported at the bind address of this client for the duration of the call.
+ */
+@RequiredArgsConstructor
+class EncodingSonarLintAnalyzer implements SonarLintAnalyzer {
+
+    private final SonarLintAnalyzer remoteAnalyzer;
+
+    private final Supplier<InetAddress> bindAddress;
+
+    private final SonarLintAnalyzeParamsEncoder encoder = new SonarLintAnalyzeParamsEncoder();
+
+    @Override
+    public Collection<Issue> analyze(
+        SonarLintAnalyzeParams params,
+        @Nullable SonarLintLogSink logSink
+    ) throws RemoteException {
+        var logSinkStub = logSink != null ? exportObject(logSink, bindAddress.get(), 0) : null;
+        try {
+            var issueSink = new CollectingIssueSink();
+            var issueSinkStub = exportObject(issueSink, bindAddress.get(), 0);
+            try {
+                if (remoteAnalyzer.analyzeEncoded(encoder.encode(params), issueSinkStub, logSinkStub)) {
+                    return issueSink.getIssues();
+                }
+
+                // The server doesn't have the Sonar properties the delta was encoded against
+                encoder.forgetSonarProperties(params.getModuleId());
+                if (remoteAnalyzer.analyzeEncoded(encoder.encode(params), issueSinkStub, logSinkStub)) {
+                    return issueSink.getIssues();
+                }
+
+            } finally {
+                unexportObject(issueSink);
+            }
+
+            return remoteAnalyzer.analyze(params, logSinkStub);
+
+        } finally {
+            if (logSink != null) {
+                unexportObject(logSink);
+            }
+        }
+    }
+
+    @Override
+    public boolean analyzeEncoded(
+        byte[] encodedParams,
+        SonarLintIssueSink issueSink,
+        @Nullable SonarLintLogSink logSink
+    ) throws RemoteException {
+        return remoteAnalyzer.analyzeEncoded(encodedParams, issueSink, logSink);
+    }
+
+}
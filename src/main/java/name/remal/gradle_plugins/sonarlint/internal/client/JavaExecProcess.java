@@ -1,10 +1,13 @@
 package name.remal.gradle_plugins.sonarlint.internal.client;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.Files.readAllBytes;
 import static name.remal.gradle_plugins.toolkit.PathUtils.tryToDeleteRecursivelyIgnoringFailure;
 
+import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import lombok.SneakyThrows;
@@ -20,14 +23,38 @@ public interface JavaExecProcess extends AutoCloseable {
 
     Path getOutputFile();
 
+    /**
+     * Reads at most {@code maxBytes} from the end of the output file.
+     * If the output is longer, the first partial line is dropped.
+     */
     @SneakyThrows
-    default String readOutput() {
-        var bytes = readAllBytes(getOutputFile());
+    default String readOutputTail(int maxBytes) {
+        final byte[] bytes;
+        final long skippedBytes;
+        try (var file = new RandomAccessFile(getOutputFile().toFile(), "r")) {
+            var length = file.length();
+            skippedBytes = max(length - maxBytes, 0);
+            bytes = new byte[(int) (length - skippedBytes)];
+            file.seek(skippedBytes);
+            file.readFully(bytes);
+        }
+
         var charset = Charset.defaultCharset();
         if (charset.equals(US_ASCII)) {
             charset = UTF_8;
         }
-        return new String(bytes, charset);
+
+        if (skippedBytes == 0) {
+            return new String(bytes, charset);
+        }
+
+        var offset = 0;
+        while (offset < bytes.length && bytes[offset] != '\n') {
+            offset++;
+        }
+        offset = min(offset + 1, bytes.length);
+        return "... (" + (skippedBytes + offset) + " bytes skipped)" + lineSeparator()
+            + new String(bytes, offset, bytes.length - offset, charset);
     }
 
 
@@ -61,6 +61,7 @@ import name.remal.gradle_plugins.sonarlint.internal.utils.SonarLintServerStartTi
 import name.remal.gradle_plugins.toolkit.AbstractCloseablesContainer;
 import name.remal.gradle_plugins.toolkit.UriUtils;
 import org.gradle.util.GradleVersion;
+import org.jspecify.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class SonarLintClient extends AbstractCloseablesContainer implements AutoCloseable {
@@ -96,10 +97,14 @@ public class SonarLintClient extends AbstractCloseablesContainer implements Auto
     }
 
 
+    private static final Duration FLUSH_SERVER_LOGS_TIMEOUT = Duration.ofMillis(200);
+
+    private static final int MAX_SERVER_LOGS_BYTES = 64 * 1024;
+
     @SneakyThrows
     @SuppressWarnings("java:S2259")
     private String renderDebugInfo() {
-        Thread.sleep(1_000); // sleep 1s to allow the server to flush its logs
+        flushServerLogs();
 
         var buf = new StringBuilder();
         Supplier<StringBuilder> withNewLineIfNeeded = () -> {
@@ -146,10 +151,11 @@ public class SonarLintClient extends AbstractCloseablesContainer implements Auto
                 .append("Server pid: ").append(serverProcess.getProcess().pid());
             withNewLineIfNeeded.get()
                 .append("Server logs file: ").append(serverProcess.getOutputFile());
+            var serverLogs = serverProcess.readOutputTail(MAX_SERVER_LOGS_BYTES);
             withNewLineIfNeeded.get()
                 .append("Server logs:")
                 .append(lineSeparator())
-                .append(indentString(serverProcess.readOutput()).replace("\n", lineSeparator()));
+                .append(indentString(serverLogs).replace("\n", lineSeparator()));
         }
 
         withNewLineIfNeeded.get()
@@ -170,12 +176,38 @@ public class SonarLintClient extends AbstractCloseablesContainer implements Auto
         return buf.toString();
     }
 
+    /**
+     * Asks the server to flush its output, waiting for {@link #FLUSH_SERVER_LOGS_TIMEOUT} at most,
+     * as the server can be unresponsive.
+     */
+    private void flushServerLogs() throws InterruptedException {
+        var heartbeat = this.heartbeat;
+        if (heartbeat == null) {
+            return;
+        }
 
-    @Getter
-    private final SonarLintAnalyzer analyzer = asLazyProxy(SonarLintAnalyzer.class, () ->
+        var flushThread = new Thread(() -> {
+            try {
+                heartbeat.flushLogs();
+            } catch (Exception ignored) {
+                // do nothing
+            }
+        });
+        flushThread.setName(SonarLintClient.class.getSimpleName() + "-flush-server-logs");
+        flushThread.setDaemon(true);
+        flushThread.start();
+        flushThread.join(FLUSH_SERVER_LOGS_TIMEOUT.toMillis());
+        flushThread.interrupt();
+    }
+
+
+    private final SonarLintAnalyzer remoteAnalyzer = asLazyProxy(SonarLintAnalyzer.class, () ->
         startServerAndLookupApi(SonarLintAnalyzer.class)
     );
 
+    @Getter
+    private final SonarLintAnalyzer analyzer = new EncodingSonarLintAnalyzer(remoteAnalyzer, this::getBindAddress);
+
     @Getter
     private final SonarLintHelp help = asLazyProxy(SonarLintHelp.class, () ->
         startServerAndLookupApi(SonarLintHelp.class)
@@ -251,6 +283,37 @@ public class SonarLintClient extends AbstractCloseablesContainer implements Auto
     }
 
 
+    public boolean isStopped() {
+        return state instanceof Stopped;
+    }
+
+
+    @Nullable
+    private volatile Throwable backgroundStartException;
+
+    private boolean isBackgroundStartRequested;
+
+    /**
+     * Starts the server in a background thread, so it's warmed up by the time the first API call is made.
+     */
+    public synchronized void startInBackground() {
+        if (!(state instanceof Created) || isBackgroundStartRequested) {
+            return;
+        }
+        isBackgroundStartRequested = true;
+
+        var startThread = new Thread(() -> {
+            try {
+                start();
+            } catch (Throwable e) {
+                backgroundStartException = e;
+            }
+        });
+        startThread.setName(SonarLintClient.class.getSimpleName() + "-start");
+        startThread.setDaemon(true);
+        startThread.start();
+    }
+
     @SneakyThrows
     @SuppressWarnings("java:S2259")
     private synchronized void start() {
@@ -261,6 +324,11 @@ public class SonarLintClient extends AbstractCloseablesContainer implements Auto
         } else if (state instanceof Started) {
             return; // already started
         } else if (state instanceof Stopped) {
+            var backgroundStartException = this.backgroundStartException;
+            if (backgroundStartException != null) {
+                throw backgroundStartException;
+            }
+
             throw new IllegalStateException(format(
                 "%s has already stopped",
                 getClass().getSimpleName()
@@ -301,10 +369,14 @@ public class SonarLintClient extends AbstractCloseablesContainer implements Auto
 
     private static final Duration HEARTBEAT_PING_INTERVAL = Duration.ofSeconds(5);
 
+    @Nullable
+    private volatile SonarLintHeartbeat heartbeat;
+
     @SuppressWarnings("BusyWait")
     private void startHeartbeat() {
         var startedState = (Started) state;
         SonarLintHeartbeat heartbeat = startedState.getServerRegistry().lookup(SonarLintHeartbeat.class);
+        this.heartbeat = heartbeat;
 
         var heartbeatThread = new Thread(() -> {
             while (!Thread.currentThread().isInterrupted()) {
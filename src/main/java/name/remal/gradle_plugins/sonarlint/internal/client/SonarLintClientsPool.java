@@ -0,0 +1,124 @@
+package name.remal.gradle_plugins.sonarlint.internal.client;
+
+import static java.util.Comparator.comparingInt;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParams;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzer;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueSink;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
+import name.remal.gradle_plugins.toolkit.AbstractCloseablesContainer;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Several {@link SonarLintClient}s (so several server processes) for the same params.
+ *
+ * <p>Analyze calls are dispatched to the server with the least outstanding requests.
+ * Calls for the same module stick to the same server while it's not busier than others,
+ * so module containers warmed up by previous calls are reused.
+ */
+public class SonarLintClientsPool extends AbstractCloseablesContainer implements AutoCloseable {
+
+    private final SonarLintClientParams params;
+
+    public SonarLintClientsPool(SonarLintClientParams params) {
+        this.params = params;
+        registerCloseable(this::closeClients);
+    }
+
+
+    private final List<PooledClient> clients = new ArrayList<>();
+
+    private final Map<String, PooledClient> moduleClients = new HashMap<>();
+
+    public synchronized void ensureSize(int size) {
+        if (clients.removeIf(client -> client.client.isStopped())) {
+            moduleClients.values().removeIf(client -> !clients.contains(client));
+        }
+        while (clients.size() < Math.max(size, 1)) {
+            clients.add(new PooledClient(new SonarLintClient(params)));
+        }
+    }
+
+    public synchronized void startInBackground() {
+        ensureSize(1);
+        clients.forEach(client -> client.client.startInBackground());
+    }
+
+    public SonarLintAnalyzer getAnalyzer() {
+        return new SonarLintAnalyzer() {
+            @Override
+            public Collection<Issue> analyze(
+                SonarLintAnalyzeParams analyzeParams,
+                @Nullable SonarLintLogSink logSink
+            ) throws RemoteException {
+                var client = acquire(analyzeParams.getModuleId());
+                try {
+                    return client.client.getAnalyzer().analyze(analyzeParams, logSink);
+                } finally {
+                    release(client);
+                }
+            }
+
+            /**
+             * Not supported, as every server decodes params against Sonar properties its own encoder sent.
+             * {@link #analyze(SonarLintAnalyzeParams, SonarLintLogSink)} encodes params for the chosen server.
+             */
+            @Override
+            public boolean analyzeEncoded(
+                byte[] encodedParams,
+                SonarLintIssueSink issueSink,
+                @Nullable SonarLintLogSink logSink
+            ) {
+                throw new UnsupportedOperationException(
+                    "Encoded params can't be dispatched to one of several servers, use analyze() instead"
+                );
+            }
+        };
+    }
+
+    private synchronized PooledClient acquire(String moduleId) {
+        ensureSize(1);
+
+        var leastBusyClient = clients.stream()
+            .min(comparingInt(client -> client.outstandingRequests))
+            .orElseThrow();
+
+        var client = moduleClients.get(moduleId);
+        if (client == null
+            || !clients.contains(client)
+            || client.outstandingRequests > leastBusyClient.outstandingRequests
+        ) {
+            client = leastBusyClient;
+            moduleClients.put(moduleId, client);
+        }
+
+        client.outstandingRequests++;
+        return client;
+    }
+
+    private synchronized void release(PooledClient client) {
+        client.outstandingRequests--;
+    }
+
+    private synchronized void closeClients() {
+        clients.forEach(client -> client.client.close());
+        clients.clear();
+        moduleClients.clear();
+    }
+
+
+    @RequiredArgsConstructor
+    private static class PooledClient {
+        final SonarLintClient client;
+        int outstandingRequests;
+    }
+
+}
@@ -1,20 +1,23 @@
 package name.remal.gradle_plugins.sonarlint.internal.server;
 
-import static java.util.Collections.newSetFromMap;
+import static com.google.common.hash.Hashing.murmur3_128;
+import static java.lang.Boolean.TRUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.joining;
+import static name.remal.gradle_plugins.sonarlint.internal.server.LogMessageLevelClassifier.levelRule;
 import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.DEBUG;
 import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.ERROR;
 import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.OFF;
 import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.TRACE;
 import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.WARN;
 
-import com.google.common.collect.ImmutableMap;
-import java.util.Map;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.sonarsource.sonarlint.core.commons.log.LogOutput;
@@ -23,37 +26,48 @@ abstract class AbstractLogOutput implements LogOutput {
 
     protected abstract void logImpl(String formattedMessage, org.slf4j.event.Level slf4jLevel);
 
+    protected boolean isEnabled(org.slf4j.event.Level slf4jLevel) {
+        return true;
+    }
+
+
+    private static final int MAX_REMEMBERED_MESSAGES = 10_000;
+
+    // Only hashes are remembered, and only for the most recent messages, so memory usage is bounded
+    private final Cache<Long, Boolean> loggedMessageHashes = CacheBuilder.newBuilder()
+        .maximumSize(MAX_REMEMBERED_MESSAGES)
+        .build();
 
-    private final Set<String> loggedMessages = newSetFromMap(new ConcurrentHashMap<>());
+    private final AtomicInteger suppressedDuplicates = new AtomicInteger();
 
-    private static final Map<Pattern, Level> MESSAGE_LEVELS = ImmutableMap.<Pattern, Level>builder()
-        .put(
-            Pattern.compile("No workDir in SonarLint"),
+    @VisibleForTesting
+    static final LogMessageLevelClassifier MESSAGE_LEVEL_CLASSIFIER = LogMessageLevelClassifier.builder()
+        .rule(levelRule(
+            "No workDir in SonarLint",
             TRACE
-        )
-        .put(
-            Pattern.compile(".+\\. Enable DEBUG mode to see them\\."),
+        ))
+        .rule(levelRule(
+            ".+\\. Enable DEBUG mode to see them\\.",
             TRACE
-        )
-        .put(
-            Pattern.compile("Plugin '[^']+' is excluded because"
+        ))
+        .rule(levelRule(
+            "Plugin '[^']+' is excluded because"
                 + " (none of languages '[^']+' are|language '[^']+' is not) enabled"
-                + "\\. Skip loading it\\."
-            ),
+                + "\\. Skip loading it\\.",
             DEBUG
-        )
-        .put(
-            Pattern.compile("Plugin '[^']+' is excluded .+\\. Skip loading it\\."),
+        ))
+        .rule(levelRule(
+            "Plugin '[^']+' is excluded .+\\. Skip loading it\\.",
             WARN
-        )
-        .put(
-            Pattern.compile("Your platform is not supported for embedded.*"),
+        ))
+        .rule(levelRule(
+            "Your platform is not supported for embedded.*",
             WARN
-        )
-        .put(
-            Pattern.compile("Embedded node not found for platform.*"),
+        ))
+        .rule(levelRule(
+            "Embedded node not found for platform.*",
             WARN
-        )
+        ))
         .build();
 
     @Override
@@ -62,49 +76,88 @@ abstract class AbstractLogOutput implements LogOutput {
             return;
         }
 
-        var message = Stream.of(formattedMessage, stacktrace)
-            .filter(Objects::nonNull)
-            .filter(not(String::isBlank))
-            .collect(joining("\n"));
+        // Don't do any work for disabled levels, unless the message can be reclassified to an enabled level
+        if (!isEnabled(requireNonNull(toSlf4jLevel(level)))
+            && !mayBeReclassifiedToEnabledLevel(formattedMessage, stacktrace)
+        ) {
+            return;
+        }
 
-        message = message.trim();
+        var message = joinMessage(formattedMessage, stacktrace);
         if (message.isEmpty()) {
             return;
         }
 
-        if (!loggedMessages.add(message)) {
-            return;
+        var classifiedLevel = MESSAGE_LEVEL_CLASSIFIER.classify(message);
+        if (classifiedLevel != null) {
+            level = classifiedLevel;
         }
 
-        for (var entry : MESSAGE_LEVELS.entrySet()) {
-            if (entry.getKey().matcher(message).matches()) {
-                level = entry.getValue();
-                break;
-            }
+        var slf4jLevel = toSlf4jLevel(level);
+        if (slf4jLevel == null || !isEnabled(slf4jLevel)) {
+            return;
         }
 
-        final org.slf4j.event.Level slf4jLevel;
-        if (level == OFF) {
+        var messageHash = murmur3_128().hashString(message, UTF_8).asLong();
+        if (loggedMessageHashes.asMap().putIfAbsent(messageHash, TRUE) != null) {
+            suppressedDuplicates.incrementAndGet();
             return;
-        } else if (level == ERROR) {
-            slf4jLevel = org.slf4j.event.Level.ERROR;
-        } else if (level == WARN) {
-            slf4jLevel = org.slf4j.event.Level.WARN;
-        } else if (level == DEBUG) {
-            slf4jLevel = org.slf4j.event.Level.DEBUG;
-        } else if (level == TRACE) {
-            slf4jLevel = org.slf4j.event.Level.TRACE;
-        } else {
-            slf4jLevel = org.slf4j.event.Level.INFO;
         }
 
         logImpl(message, slf4jLevel);
     }
 
+    private boolean mayBeReclassifiedToEnabledLevel(@Nullable String formattedMessage, @Nullable String stacktrace) {
+        var messageStart = formattedMessage != null && !formattedMessage.isBlank() ? formattedMessage : stacktrace;
+        var messageEnd = stacktrace != null && !stacktrace.isBlank() ? stacktrace : formattedMessage;
+        if (messageStart == null || messageEnd == null) {
+            return false;
+        }
+
+        return MESSAGE_LEVEL_CLASSIFIER.mayClassifyTo(
+            messageStart.trim(),
+            messageEnd.trim(),
+            classifiedLevel -> isEnabled(requireNonNull(toSlf4jLevel(classifiedLevel)))
+        );
+    }
+
+    @VisibleForTesting
+    String joinMessage(@Nullable String formattedMessage, @Nullable String stacktrace) {
+        return Stream.of(formattedMessage, stacktrace)
+            .filter(Objects::nonNull)
+            .filter(not(String::isBlank))
+            .collect(joining("\n"))
+            .trim();
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public final void log(String formattedMessage, Level level) {
         log(formattedMessage, level, null);
     }
 
+    public final void logSuppressedDuplicatesSummary() {
+        var count = suppressedDuplicates.getAndSet(0);
+        if (count > 0 && isEnabled(org.slf4j.event.Level.DEBUG)) {
+            logImpl(count + " duplicate log messages were suppressed", org.slf4j.event.Level.DEBUG);
+        }
+    }
+
+    @Nullable
+    private static org.slf4j.event.Level toSlf4jLevel(Level level) {
+        if (level == OFF) {
+            return null;
+        } else if (level == ERROR) {
+            return org.slf4j.event.Level.ERROR;
+        } else if (level == WARN) {
+            return org.slf4j.event.Level.WARN;
+        } else if (level == DEBUG) {
+            return org.slf4j.event.Level.DEBUG;
+        } else if (level == TRACE) {
+            return org.slf4j.event.Level.TRACE;
+        } else {
+            return org.slf4j.event.Level.INFO;
+        }
+    }
+
 }
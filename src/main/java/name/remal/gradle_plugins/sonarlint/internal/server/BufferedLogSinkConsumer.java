@@ -0,0 +1,120 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import java.rmi.RemoteException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogMessage;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+/**
+ * Sends log messages to {@link SonarLintLogSink} in batches, instead of making a remote call for every message.
+ *
+ * <p>Messages are sent when {@link #MAX_BATCH_SIZE} messages are buffered, every {@link #FLUSH_INTERVAL},
+ * and on {@link #close()}. If the buffer is full, the logging thread sends the batch itself,
+ * so a slow sink slows down logging instead of accumulating messages in memory.
+ *
+ * <p>Messages below the min level are dropped without being sent.
+ */
+class BufferedLogSinkConsumer implements LogMessageConsumer, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedLogSinkConsumer.class);
+
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(200);
+
+
+
+    private final SonarLintLogSink logSink;
+
+    private final Level minLevel;
+
+    /**
+     * Cancelled on {@link #close()}, so no flush runs after the analysis.
+     */
+    private final ScheduledFuture<?> flushTask;
+
+    BufferedLogSinkConsumer(SonarLintLogSink logSink, Level minLevel) {
+        this.logSink = logSink;
+        this.minLevel = minLevel;
+        this.flushTask = SharedScheduler.scheduleWithFixedDelay(this::flushIgnoringFailure, FLUSH_INTERVAL);
+    }
+
+
+    private List<SonarLintLogMessage> buffer = new ArrayList<>();
+
+    private final Object bufferLock = new Object[0];
+
+    // Batches are sent one by one, so messages are not reordered
+    private final Object sendLock = new Object[0];
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return level.toInt() >= minLevel.toInt();
+    }
+
+    @Override
+    public void accept(Level level, String message) throws RemoteException {
+        if (!isEnabled(level)) {
+            return;
+        }
+
+        boolean isBufferFull;
+        synchronized (bufferLock) {
+            buffer.add(SonarLintLogMessage.builder()
+                .levelName(level.name())
+                .message(message)
+                .build()
+            );
+            isBufferFull = buffer.size() >= MAX_BATCH_SIZE;
+        }
+
+        if (isBufferFull) {
+            flush();
+        }
+    }
+
+    public void flush() throws RemoteException {
+        synchronized (sendLock) {
+            final List<SonarLintLogMessage> messages;
+            synchronized (bufferLock) {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+
+                messages = buffer;
+                buffer = new ArrayList<>();
+            }
+
+            logSink.onMessages(messages);
+        }
+    }
+
+    private void flushIgnoringFailure() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.debug("Log messages can't be sent", e);
+        }
+    }
+
+    /**
+     * Sends the remaining messages. A failure to send them is logged, not thrown,
+     * so it doesn't fail an analysis that has already succeeded.
+     */
+    @Override
+    public void close() {
+        flushTask.cancel(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("Log messages can't be sent", e);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssue;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueSink;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sends issues to {@link SonarLintIssueSink} while sensors report them, in chunks of {@link #CHUNK_SIZE},
+ * so the server never holds more than a chunk of issues. The HTML description of every rule is sent once.
+ *
+ * <p>Sensors can report issues from multiple threads, so a reporting thread sends a full chunk itself.
+ * If sending fails, further issues are dropped and the failure is thrown by {@link #flush()}.
+ */
+@RequiredArgsConstructor
+class ChunkedIssueSender {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final SonarLintIssueSink issueSink;
+
+    private final SonarIssueConverter issueConverter;
+
+    private final List<SonarLintIssue> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    private final Set<String> sentDescriptionRules = new HashSet<>();
+
+    @Nullable
+    private RemoteException failure;
+
+    public synchronized void add(SonarLintIssue issue) {
+        if (failure != null) {
+            return;
+        }
+
+        chunk.add(issue);
+        if (chunk.size() >= CHUNK_SIZE) {
+            try {
+                sendChunk();
+            } catch (RemoteException e) {
+                failure = e;
+            }
+        }
+    }
+
+    public synchronized void flush() throws RemoteException {
+        if (failure != null) {
+            throw failure;
+        }
+
+        if (!chunk.isEmpty()) {
+            sendChunk();
+        }
+    }
+
+    private void sendChunk() throws RemoteException {
+        var ruleHtmlDescriptions = new LinkedHashMap<String, String>();
+        for (var issue : chunk) {
+            var rule = issue.getRule();
+            if (sentDescriptionRules.add(rule)) {
+                var htmlDescription = issueConverter.getHtmlDescription(rule);
+                if (htmlDescription != null) {
+                    ruleHtmlDescriptions.put(rule, htmlDescription);
+                }
+            }
+        }
+
+        var issues = List.copyOf(chunk);
+        chunk.clear();
+        issueSink.onIssues(issues, ruleHtmlDescriptions);
+    }
+
+}
@@ -0,0 +1,65 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bounds the memory taken by file contents cached by {@link SimpleClientInputFile}s of all running analyses.
+ *
+ * <p>When the cached contents take more than {@link #maxSizeInBytes},
+ * contents of the least recently accessed files are released.
+ * Released files are read again, if a sensor accesses them after that.
+ */
+@RequiredArgsConstructor
+class ClientInputFileContentsCache {
+
+    private static final long DEFAULT_MAX_SIZE_IN_BYTES = Runtime.getRuntime().maxMemory() / 4;
+
+
+    private final long maxSizeInBytes;
+
+    ClientInputFileContentsCache() {
+        this(DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+
+    private final Map<SimpleClientInputFile, Long> cachedSizes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalSize;
+
+    /**
+     * Files are released outside of the cache lock, as {@link SimpleClientInputFile#release()} takes the file lock.
+     */
+    public void onAccess(SimpleClientInputFile file, long sizeInBytes) {
+        var filesToRelease = new ArrayList<SimpleClientInputFile>();
+        synchronized (this) {
+            var prevSize = cachedSizes.put(file, sizeInBytes);
+            totalSize += sizeInBytes - (prevSize != null ? prevSize : 0);
+
+            // The accessed file is the most recently accessed one, so it's evicted last
+            var iterator = cachedSizes.entrySet().iterator();
+            while (totalSize > maxSizeInBytes && iterator.hasNext()) {
+                var entry = iterator.next();
+                if (entry.getKey() == file) {
+                    break;
+                }
+
+                totalSize -= entry.getValue();
+                iterator.remove();
+                filesToRelease.add(entry.getKey());
+            }
+        }
+
+        filesToRelease.forEach(SimpleClientInputFile::release);
+    }
+
+    public synchronized void onRelease(SimpleClientInputFile file) {
+        var size = cachedSizes.remove(file);
+        if (size != null) {
+            totalSize -= size;
+        }
+    }
+
+}
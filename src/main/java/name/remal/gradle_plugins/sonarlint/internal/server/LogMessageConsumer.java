@@ -7,4 +7,8 @@ interface LogMessageConsumer {
 
     void accept(Level level, String message) throws Exception;
 
+    default boolean isEnabled(Level level) {
+        return true;
+    }
+
 }
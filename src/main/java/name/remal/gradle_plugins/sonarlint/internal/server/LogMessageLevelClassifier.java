@@ -0,0 +1,140 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.sonarsource.sonarlint.core.commons.log.LogOutput.Level;
+
+/**
+ * Overrides the level of known log messages.
+ *
+ * <p>Every rule has a literal prefix and suffix that the message must have, derived from the rule's pattern.
+ * They are checked before the pattern, so the pattern only runs for messages that are very likely to match it.
+ * Rules are checked in order, the first matching rule wins.
+ */
+@Builder
+class LogMessageLevelClassifier {
+
+    @Singular
+    private final List<Rule> rules;
+
+    @Nullable
+    public Level classify(String message) {
+        for (var rule : rules) {
+            if (rule.matches(message)) {
+                return rule.getLevel();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks only literal prefixes and suffixes of the rules whose level passes the filter,
+     * so it's cheap enough to be called before the message is built from its parts.
+     *
+     * @param messageStart the first non-blank part of the message, trimmed
+     * @param messageEnd the last non-blank part of the message, trimmed
+     */
+    public boolean mayClassifyTo(String messageStart, String messageEnd, Predicate<Level> levelFilter) {
+        for (var rule : rules) {
+            if (levelFilter.test(rule.getLevel())
+                && messageStart.startsWith(rule.getPrefix())
+                && messageEnd.endsWith(rule.getSuffix())
+            ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    public static Rule levelRule(String pattern, Level level) {
+        var literals = parseLiterals(pattern);
+
+        var prefix = new StringBuilder();
+        for (var literal : literals) {
+            if (literal == null) {
+                break;
+            }
+            prefix.append(literal.charValue());
+        }
+
+        // The suffix doesn't overlap the prefix, as the message must be at least as long as both of them
+        var suffix = new StringBuilder();
+        for (var i = literals.size() - 1; i >= prefix.length(); i--) {
+            var literal = literals.get(i);
+            if (literal == null) {
+                break;
+            }
+            suffix.append(literal.charValue());
+        }
+        suffix.reverse();
+
+        return new Rule(prefix.toString(), Pattern.compile(pattern), suffix.toString(), level);
+    }
+
+    private static final String REGEX_META_CHARS = "\\[](){}.*+?^$|";
+
+    private static final String REGEX_QUANTIFIERS = "*+?{";
+
+    /**
+     * Returns the pattern's literal characters, and {@code null}s for everything else.
+     * A literal character followed by a quantifier isn't literal.
+     *
+     * <p>The result is conservative: characters that can't be proven literal are {@code null}s,
+     * and a pattern with a top-level alternation has no literal characters at all.
+     */
+    private static List<@Nullable Character> parseLiterals(String pattern) {
+        var literals = new ArrayList<@Nullable Character>(pattern.length());
+        var groupsDepth = 0;
+        for (var i = 0; i < pattern.length(); i++) {
+            var ch = pattern.charAt(i);
+            if (ch == '\\' && i + 1 < pattern.length()) {
+                var escaped = pattern.charAt(++i);
+                literals.add(Character.isLetterOrDigit(escaped) ? null : escaped);
+
+            } else if (REGEX_META_CHARS.indexOf(ch) >= 0) {
+                if (ch == '(') {
+                    groupsDepth++;
+                } else if (ch == ')') {
+                    groupsDepth--;
+                } else if (ch == '|' && groupsDepth <= 0) {
+                    return List.of();
+                } else if (REGEX_QUANTIFIERS.indexOf(ch) >= 0 && !literals.isEmpty()) {
+                    literals.set(literals.size() - 1, null);
+                }
+                literals.add(null);
+
+            } else {
+                literals.add(ch);
+            }
+        }
+        return literals;
+    }
+
+    @Value
+    static class Rule {
+
+        String prefix;
+
+        Pattern pattern;
+
+        String suffix;
+
+        Level level;
+
+        boolean matches(String message) {
+            return message.length() >= prefix.length() + suffix.length()
+                && message.startsWith(prefix)
+                && message.endsWith(suffix)
+                && pattern.matcher(message).matches();
+        }
+
+    }
+
+}
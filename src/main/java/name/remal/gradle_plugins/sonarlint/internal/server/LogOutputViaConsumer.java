@@ -8,6 +8,11 @@ class LogOutputViaConsumer extends AbstractLogOutput {
 
     private final LogMessageConsumer consumer;
 
+    @Override
+    protected boolean isEnabled(org.slf4j.event.Level slf4jLevel) {
+        return consumer.isEnabled(slf4jLevel);
+    }
+
     @Override
     @SneakyThrows
     protected void logImpl(String formattedMessage, org.slf4j.event.Level slf4jLevel) {
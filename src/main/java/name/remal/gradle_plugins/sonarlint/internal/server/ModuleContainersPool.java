@@ -0,0 +1,199 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static java.util.Objects.requireNonNull;
+import static name.remal.gradle_plugins.sonarlint.internal.server.SonarLintSharedCode.withThreadLogger;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonarsource.sonarlint.core.analysis.container.global.GlobalAnalysisContainer;
+import org.sonarsource.sonarlint.core.analysis.container.module.ModuleContainer;
+
+/**
+ * A pool of started module containers, so analysis of the same module doesn't pay for the container startup.
+ *
+ * <p>Containers are leased exclusively. Idle containers are unregistered after {@link #idleTimeout}.
+ * Eviction is also scheduled while there are idle containers,
+ * so they don't stay registered when no more analyses are requested.
+ */
+@RequiredArgsConstructor
+class ModuleContainersPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModuleContainersPool.class);
+
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+
+    private final GlobalAnalysisContainer analysisContainer;
+
+    private final Duration idleTimeout;
+
+    ModuleContainersPool(GlobalAnalysisContainer analysisContainer) {
+        this(analysisContainer, DEFAULT_IDLE_TIMEOUT);
+    }
+
+
+    // SonarLint keeps child containers in SpringComponentContainer.children, a plain ArrayList.
+    // Module container registration and unregistration both mutate that list, so concurrent
+    // ModuleRegistry calls corrupt it. All ModuleRegistry mutations are serialized on this mutex.
+    private final Object mutex = new Object[0];
+
+    private final Map<String, Deque<PooledModuleContainer>> idleContainers = new HashMap<>();
+
+    private long lastRegistryModuleIdSuffix;
+
+    private boolean closed;
+
+    @Nullable
+    private ScheduledFuture<?> evictionTask;
+
+    public void withModuleContainer(
+        String moduleId,
+        String configurationFingerprint,
+        Consumer<ModuleContainer> action
+    ) {
+        var pooledContainer = lease(moduleId + '#' + configurationFingerprint);
+        try {
+            action.accept(pooledContainer.container);
+        } catch (Throwable e) {
+            // The container state is unknown after a failure, so it's not reused
+            unregister(pooledContainer);
+            throw e;
+        }
+
+        release(pooledContainer);
+    }
+
+    private PooledModuleContainer lease(String poolKey) {
+        synchronized (mutex) {
+            if (closed) {
+                throw new IllegalStateException("Module containers pool is closed");
+            }
+
+            evictIdleContainers();
+
+            var idle = idleContainers.get(poolKey);
+            var pooledContainer = idle != null ? idle.pollFirst() : null;
+            if (pooledContainer != null) {
+                logger.debug("Reusing module container {}", pooledContainer.registryModuleId);
+                return pooledContainer;
+            }
+
+            var registryModuleId = poolKey + '#' + (++lastRegistryModuleIdSuffix);
+            logger.debug("Creating module container {}", registryModuleId);
+            var moduleRegistry = analysisContainer.getModuleRegistry();
+            var container = requireNonNull(moduleRegistry.getContainerFor(registryModuleId));
+            return new PooledModuleContainer(poolKey, registryModuleId, container);
+        }
+    }
+
+    private void release(PooledModuleContainer pooledContainer) {
+        synchronized (mutex) {
+            if (closed) {
+                unregisterUnsynchronized(pooledContainer);
+                return;
+            }
+
+            pooledContainer.lastReleasedNanos = System.nanoTime();
+            idleContainers.computeIfAbsent(pooledContainer.poolKey, __ -> new ArrayDeque<>())
+                .addFirst(pooledContainer);
+
+            evictIdleContainers();
+
+            if (evictionTask == null && !idleContainers.isEmpty()) {
+                evictionTask = SharedScheduler.scheduleWithFixedDelay(this::evictIdleContainersOnSchedule, idleTimeout);
+            }
+        }
+    }
+
+    private void evictIdleContainersOnSchedule() {
+        try {
+            synchronized (mutex) {
+                if (closed) {
+                    return;
+                }
+
+                withThreadLogger(null, () -> {
+                    evictIdleContainers();
+                    return null;
+                });
+            }
+        } catch (Throwable e) {
+            logger.warn("Idle module containers can't be unregistered", e);
+        }
+    }
+
+    private void evictIdleContainers() {
+        var now = System.nanoTime();
+        var idleTimeoutNanos = idleTimeout.toNanos();
+        var iterator = idleContainers.values().iterator();
+        while (iterator.hasNext()) {
+            var idle = iterator.next();
+            // The most recently released containers are at the head, so the tail is evicted first
+            while (!idle.isEmpty() && now - idle.peekLast().lastReleasedNanos >= idleTimeoutNanos) {
+                unregisterUnsynchronized(idle.pollLast());
+            }
+
+            if (idle.isEmpty()) {
+                iterator.remove();
+            }
+        }
+
+        if (idleContainers.isEmpty()) {
+            cancelEvictionTask();
+        }
+    }
+
+    private void cancelEvictionTask() {
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+            evictionTask = null;
+        }
+    }
+
+    private void unregister(PooledModuleContainer pooledContainer) {
+        synchronized (mutex) {
+            unregisterUnsynchronized(pooledContainer);
+        }
+    }
+
+    private void unregisterUnsynchronized(PooledModuleContainer pooledContainer) {
+        logger.debug("Unregistering module container {}", pooledContainer.registryModuleId);
+        try {
+            analysisContainer.getModuleRegistry().unregisterModule(pooledContainer.registryModuleId);
+        } catch (Exception e) {
+            logger.warn("Module container {} can't be unregistered", pooledContainer.registryModuleId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (mutex) {
+            closed = true;
+            cancelEvictionTask();
+            var allIdleContainers = new ArrayList<PooledModuleContainer>();
+            idleContainers.values().forEach(allIdleContainers::addAll);
+            idleContainers.clear();
+            allIdleContainers.forEach(this::unregisterUnsynchronized);
+        }
+    }
+
+
+    @RequiredArgsConstructor
+    private static class PooledModuleContainer {
+        final String poolKey;
+        final String registryModuleId;
+        final ModuleContainer container;
+        long lastReleasedNanos;
+    }
+
+}
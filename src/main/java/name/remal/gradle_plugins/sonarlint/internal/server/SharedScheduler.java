@@ -0,0 +1,44 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single daemon scheduler for periodic tasks of the server code.
+ *
+ * <p>Its thread stops after {@link #THREAD_KEEP_ALIVE} without scheduled tasks,
+ * so it doesn't hold the class loader while nothing is scheduled.
+ * Tasks must be cancelled by their owners when there's nothing left to do.
+ */
+@NoArgsConstructor(access = PRIVATE)
+abstract class SharedScheduler {
+
+    private static final Duration THREAD_KEEP_ALIVE = Duration.ofSeconds(10);
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        var scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+            .setNameFormat("SonarLint-scheduler-%d")
+            .setDaemon(true)
+            .build()
+        );
+        scheduler.setKeepAliveTime(THREAD_KEEP_ALIVE.toSeconds(), SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return scheduler;
+    }
+
+    public static ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return SCHEDULER.scheduleWithFixedDelay(task, delay.toMillis(), delay.toMillis(), MILLISECONDS);
+    }
+
+}
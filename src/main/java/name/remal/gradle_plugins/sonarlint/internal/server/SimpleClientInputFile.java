@@ -2,12 +2,14 @@ package name.remal.gradle_plugins.sonarlint.internal.server;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newInputStream;
-import static java.nio.file.Files.readString;
+import static java.nio.file.Files.readAllBytes;
 import static java.util.Objects.requireNonNullElse;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +17,27 @@ import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
 import org.jspecify.annotations.Nullable;
 import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
 
+/**
+ * File contents are read once and shared by all sensors of a single analysis.
+ * {@link #release()} must be called when the analysis finishes, so the contents don't outlive it.
+ * Before that, the contents can be released by {@link ClientInputFileContentsCache}.
+ *
+ * <p>The file bytes are kept only until {@link #contents()} decodes them.
+ * After that, {@link #inputStream()} reads the file from the disk.
+ */
 @RequiredArgsConstructor
 @SuppressWarnings({"deprecation", "RedundantSuppression"})
 class SimpleClientInputFile implements ClientInputFile {
 
     private final SourceFile sourceFile;
 
+    private final ClientInputFileContentsCache contentsCache;
+
+    private byte @Nullable [] bytes;
+
+    @Nullable
+    private String contents;
+
     @Override
     public String getPath() {
         return sourceFile.getFile().getPath();
@@ -48,12 +65,35 @@ class SimpleClientInputFile implements ClientInputFile {
 
     @Override
     public InputStream inputStream() throws IOException {
+        byte[] cachedBytes = null;
+        synchronized (this) {
+            if (contents == null) {
+                cachedBytes = getBytes();
+            }
+        }
+
+        if (cachedBytes != null) {
+            contentsCache.onAccess(this, cachedBytes.length);
+            return new ByteArrayInputStream(cachedBytes);
+        }
+
         return newInputStream(sourceFile.getFile().toPath());
     }
 
     @Override
     public String contents() throws IOException {
-        return readString(sourceFile.getFile().toPath(), requireNonNullElse(getCharset(), UTF_8));
+        final String cachedContents;
+        synchronized (this) {
+            if (contents == null) {
+                var charset = requireNonNullElse(getCharset(), UTF_8);
+                contents = charset.newDecoder().decode(ByteBuffer.wrap(getBytes())).toString();
+                bytes = null;
+            }
+            cachedContents = contents;
+        }
+
+        contentsCache.onAccess(this, 2L * cachedContents.length());
+        return cachedContents;
     }
 
     @Override
@@ -66,4 +106,24 @@ class SimpleClientInputFile implements ClientInputFile {
         return sourceFile.getFile().toURI();
     }
 
+
+    /**
+     * Releases the cached file bytes and contents. They are read again if the file is accessed after that.
+     */
+    public void release() {
+        synchronized (this) {
+            bytes = null;
+            contents = null;
+        }
+
+        contentsCache.onRelease(this);
+    }
+
+    private byte[] getBytes() throws IOException {
+        if (bytes == null) {
+            bytes = readAllBytes(sourceFile.getFile().toPath());
+        }
+        return bytes;
+    }
+
 }
@@ -2,7 +2,6 @@ package name.remal.gradle_plugins.sonarlint.internal.server;
 
 import static com.google.common.base.CaseFormat.UPPER_CAMEL;
 import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
-import static name.remal.gradle_plugins.toolkit.issues.Issue.newIssue;
 import static name.remal.gradle_plugins.toolkit.issues.IssueSeverity.ERROR;
 import static name.remal.gradle_plugins.toolkit.issues.IssueSeverity.INFO;
 import static name.remal.gradle_plugins.toolkit.issues.IssueSeverity.WARNING;
@@ -11,12 +10,13 @@ import java.io.File;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssue;
 import name.remal.gradle_plugins.toolkit.ObjectUtils;
 import name.remal.gradle_plugins.toolkit.issues.HtmlMessage;
 import name.remal.gradle_plugins.toolkit.issues.Issue;
-import name.remal.gradle_plugins.toolkit.issues.TextMessage;
 import org.jspecify.annotations.Nullable;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.server.rule.RulesDefinition;
@@ -28,9 +28,31 @@ class SonarIssueConverter {
 
     private final Map<RuleKey, RulesDefinition.Rule> allRules;
 
+    // Issues of the same rule share the description instance, so it's kept in memory and serialized only once
+    private final Map<String, Optional<HtmlMessage>> descriptions = new ConcurrentHashMap<>();
+
+    public Issue toIssue(SonarLintIssue issue) {
+        return issue.toIssue(getDescription(issue.getRule()));
+    }
+
+    @Nullable
+    public HtmlMessage getDescription(String rule) {
+        return descriptions.computeIfAbsent(rule, __ ->
+            Optional.ofNullable(getHtmlDescription(rule))
+                .map(HtmlMessage::htmlMessageOf)
+        ).orElse(null);
+    }
+
+    @Nullable
+    public String getHtmlDescription(String rule) {
+        return Optional.ofNullable(allRules.get(RuleKey.parse(rule)))
+            .map(Rule::htmlDescription)
+            .orElse(null);
+    }
+
     @Nullable
     @SuppressWarnings({"java:S3776", "EnumOrdinal"})
-    public Issue convert(org.sonarsource.sonarlint.core.analysis.api.Issue sonarIssue) {
+    public SonarLintIssue convert(org.sonarsource.sonarlint.core.analysis.api.Issue sonarIssue) {
         var sourceFile = getSourceFile(sonarIssue);
         if (sourceFile == null) {
             return null;
@@ -38,77 +60,70 @@ class SonarIssueConverter {
 
         var message = Optional.ofNullable(sonarIssue.getMessage())
             .filter(ObjectUtils::isNotEmpty)
-            .map(TextMessage::textMessageOf)
             .orElse(null);
         if (message == null) {
             return null;
         }
 
-        var issue = newIssue(builder -> {
-            builder.rule(sonarIssue.getRuleKey().toString());
-            builder.message(message);
+        var builder = SonarLintIssue.builder();
+        builder.rule(sonarIssue.getRuleKey().toString());
+        builder.message(message);
 
-            builder.sourceFile(sourceFile);
-            builder.startLine(sonarIssue.getStartLine());
-            builder.startColumn(sonarIssue.getStartLineOffset());
-            builder.endLine(sonarIssue.getEndLine());
-            builder.endColumn(sonarIssue.getEndLineOffset());
+        builder.sourceFile(sourceFile);
+        builder.startLine(sonarIssue.getStartLine());
+        builder.startColumn(sonarIssue.getStartLineOffset());
+        builder.endLine(sonarIssue.getEndLine());
+        builder.endColumn(sonarIssue.getEndLineOffset());
 
 
-            var rule = Optional.ofNullable(sonarIssue.getRuleKey())
-                .map(allRules::get)
-                .orElse(null);
+        var rule = Optional.ofNullable(sonarIssue.getRuleKey())
+            .map(allRules::get)
+            .orElse(null);
 
-            Map<Enum<?>, Enum<?>> impacts = new LinkedHashMap<>();
-            if (sonarIssue.getOverriddenImpacts() != null) {
-                impacts.putAll(sonarIssue.getOverriddenImpacts());
-            }
-            if (impacts.isEmpty() && rule != null) {
-                impacts.putAll(rule.defaultImpacts());
+        Map<Enum<?>, Enum<?>> impacts = new LinkedHashMap<>();
+        if (sonarIssue.getOverriddenImpacts() != null) {
+            impacts.putAll(sonarIssue.getOverriddenImpacts());
+        }
+        if (impacts.isEmpty() && rule != null) {
+            impacts.putAll(rule.defaultImpacts());
+        }
+        Enum<?> impactSeverity = null;
+        Enum<?> softwareQuality = null;
+        for (var entry : impacts.entrySet()) {
+            if (impactSeverity == null
+                || impactSeverity.ordinal() < entry.getValue().ordinal()
+            ) {
+                impactSeverity = entry.getValue();
+                softwareQuality = entry.getKey();
             }
-            Enum<?> impactSeverity = null;
-            Enum<?> softwareQuality = null;
-            for (var entry : impacts.entrySet()) {
-                if (impactSeverity == null
-                    || impactSeverity.ordinal() < entry.getValue().ordinal()
-                ) {
-                    impactSeverity = entry.getValue();
-                    softwareQuality = entry.getKey();
+        }
+
+        Optional.ofNullable(impactSeverity)
+            .map(Enum::name)
+            .map(String::toUpperCase)
+            .ifPresent(severity -> {
+                switch (severity) {
+                    case "BLOCKER":
+                    case "CRITICAL":
+                    case "MAJOR":
+                    case "HIGH":
+                        builder.severity(ERROR);
+                        break;
+                    case "MINOR":
+                    case "MEDIUM":
+                        builder.severity(WARNING);
+                        break;
+                    default:
+                        builder.severity(INFO);
                 }
-            }
+            });
 
-            Optional.ofNullable(impactSeverity)
-                .map(Enum::name)
-                .map(String::toUpperCase)
-                .ifPresent(severity -> {
-                    switch (severity) {
-                        case "BLOCKER":
-                        case "CRITICAL":
-                        case "MAJOR":
-                        case "HIGH":
-                            builder.severity(ERROR);
-                            break;
-                        case "MINOR":
-                        case "MEDIUM":
-                            builder.severity(WARNING);
-                            break;
-                        default:
-                            builder.severity(INFO);
-                    }
-                });
-
-            Optional.ofNullable(softwareQuality)
-                .map(Enum::name)
-                .map(UPPER_UNDERSCORE.converterTo(UPPER_CAMEL))
-                .ifPresent(builder::category);
-
-            Optional.ofNullable(rule)
-                .map(Rule::htmlDescription)
-                .map(HtmlMessage::htmlMessageOf)
-                .ifPresent(builder::description);
-        });
+        Optional.ofNullable(softwareQuality)
+            .map(Enum::name)
+            .map(UPPER_UNDERSCORE.converterTo(UPPER_CAMEL))
+            .ifPresent(builder::category);
 
-        return issue;
+        return builder.build();
     }
 
     @Nullable
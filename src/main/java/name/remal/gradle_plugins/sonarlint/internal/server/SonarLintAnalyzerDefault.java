@@ -3,32 +3,47 @@ package name.remal.gradle_plugins.sonarlint.internal.server;
 import static com.google.common.base.Predicates.alwaysFalse;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.hash.Hashing.sha256;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+import static java.util.Comparator.naturalOrder;
 import static java.util.Map.Entry;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toUnmodifiableList;
 import static name.remal.gradle_plugins.sonarlint.internal.SonarLintLanguageIncludes.getLanguageRelativePathPredicate;
 import static name.remal.gradle_plugins.sonarlint.internal.server.SimpleProgressMonitor.SIMPLE_PROGRESS_MONITOR;
 import static name.remal.gradle_plugins.sonarlint.internal.server.SonarLintSharedCode.withThreadLogger;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueUtils.sortIssues;
 import static name.remal.gradle_plugins.toolkit.ObjectUtils.isNotEmpty;
+import static name.remal.gradle_plugins.toolkit.SneakyThrowUtils.sneakyThrow;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.rmi.RemoteException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import lombok.Value;
 import name.remal.gradle_plugins.sonarlint.SonarLintLanguage;
 import name.remal.gradle_plugins.sonarlint.SonarLintLanguageType;
 import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParams;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsDecoder;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzer;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssue;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueSink;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
 import name.remal.gradle_plugins.toolkit.ObjectUtils;
 import name.remal.gradle_plugins.toolkit.issues.Issue;
@@ -41,7 +56,6 @@ import org.sonar.api.rule.RuleKey;
 import org.sonar.api.server.rule.RulesDefinition.Rule;
 import org.sonarsource.sonarlint.core.analysis.api.AnalysisConfiguration;
 import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
-import org.sonarsource.sonarlint.core.analysis.container.module.ModuleContainer;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 
 @RequiredArgsConstructor
@@ -52,16 +66,49 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
 
     private final SonarLintSharedCode shared;
 
+    private final SonarLintAnalyzeParamsDecoder analyzeParamsDecoder = new SonarLintAnalyzeParamsDecoder();
 
-    // SonarLint keeps child containers in SpringComponentContainer.children, a plain ArrayList.
-    // Module container registration and unregistration both mutate that list, so concurrent
-    // ModuleRegistry calls corrupt it. All ModuleRegistry mutations are serialized on this mutex.
-    private final Object moduleRegistryMutex = new Object[0];
+    @Override
+    public boolean analyzeEncoded(
+        byte[] encodedParams,
+        SonarLintIssueSink issueSink,
+        @Nullable SonarLintLogSink logSink
+    ) throws RemoteException {
+        var params = analyzeParamsDecoder.decode(encodedParams);
+        if (params == null) {
+            logger.info("Analyze params can't be decoded, they need to be sent again");
+            return false;
+        }
+
+        var issueSender = new ChunkedIssueSender(issueSink, shared.getIssueConverter());
+        analyzeImpl(params, logSink, issueSender::add);
+        issueSender.flush();
+
+        return true;
+    }
 
     @Override
     public Collection<Issue> analyze(
         SonarLintAnalyzeParams params,
         @Nullable SonarLintLogSink logSink
+    ) throws RemoteException {
+        Queue<SonarLintIssue> issues = new ConcurrentLinkedQueue<>();
+        analyzeImpl(params, logSink, issues::add);
+
+        var issueConverter = shared.getIssueConverter();
+        return sortIssues(issues).stream()
+            .map(issueConverter::toIssue)
+            .collect(toUnmodifiableList());
+    }
+
+    /**
+     * Passes issues to {@code issueConsumer} as soon as sensors report them.
+     * {@code issueConsumer} can be called from multiple threads.
+     */
+    private void analyzeImpl(
+        SonarLintAnalyzeParams params,
+        @Nullable SonarLintLogSink logSink,
+        Consumer<SonarLintIssue> issueConsumer
     ) throws RemoteException {
         logger.info(
             "Analyze requested for {} files (job ID: {}, module ID: {})",
@@ -70,8 +117,6 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
             params.getModuleId()
         );
 
-        var repositoryRoot = params.getRepositoryRoot();
-        var moduleId = params.getModuleId();
         var sourceFiles = params.getSourceFiles();
         var enabledLanguages = params.getEnabledLanguages();
         var sonarProperties = params.getSonarProperties();
@@ -82,81 +127,208 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
 
         if (sourceFiles.isEmpty()) {
             logger.info("No source files to analyze");
-            return List.of();
+            return;
         }
 
         if (enabledLanguages.isEmpty()
             || (!enableRulesActivatedByDefault && enabledRulesConfig.isEmpty())
         ) {
             logger.info("No languages or rules enabled for analysis");
-            return List.of();
+            return;
         }
 
-        var activeRules = getActiveRules(
-            enabledLanguages,
+        shared.awaitWarmUp();
+
+        var activeRulesCacheKey = new ActiveRulesCacheKey(
+            Set.copyOf(enabledLanguages),
             enableRulesActivatedByDefault,
-            enabledRulesConfig,
-            disabledRulesConfig,
-            rulesPropertiesConfig
+            Set.copyOf(enabledRulesConfig),
+            Set.copyOf(disabledRulesConfig),
+            Map.copyOf(rulesPropertiesConfig)
+        );
+        var activeRules = shared.getActiveRulesCache().asMap().computeIfAbsent(activeRulesCacheKey, __ ->
+            getActiveRules(
+                enabledLanguages,
+                enableRulesActivatedByDefault,
+                enabledRulesConfig,
+                disabledRulesConfig,
+                rulesPropertiesConfig
+            )
         );
         if (activeRules.isEmpty()) {
             logger.info("No active rules found for analysis");
-            return List.of();
+            return;
         }
 
-        LogMessageConsumer logMessageConsumer = logSink == null
-            ? null
-            : (level, message) -> logSink.onMessage(level.name(), message);
-        return withThreadLogger(logMessageConsumer, () ->
-            withSingleThreadedFirstFrontendScan(enabledLanguages, sourceFiles, sonarProperties, () -> {
-                var inputFiles = sourceFiles.stream()
-                    .map(SimpleClientInputFile::new)
-                    .map(ClientInputFile.class::cast)
-                    .collect(toUnmodifiableList());
-                SonarLintLogger.get().debug("Start analyzing {} files in module '{}'", inputFiles.size(), moduleId);
-
-                var analysisConfiguration = AnalysisConfiguration.builder()
-                    .setBaseDir(repositoryRoot.toPath())
-                    .addInputFiles(inputFiles)
-                    .putAllExtraProperties(sonarProperties)
-                    .addActiveRules(activeRules)
-                    .build();
-
-                Collection<Issue> issues = new LinkedHashSet<>();
-                var issueConverter = new SonarIssueConverter(shared.getAllRules());
-                Consumer<org.sonarsource.sonarlint.core.analysis.api.Issue> issueListener = sonarIssue -> {
-                    synchronized (issues) {
-                        var issue = issueConverter.convert(sonarIssue);
-                        if (issue != null) {
-                            issues.add(issue);
-                        }
+        try (var logMessageConsumer = logSink != null
+            ? new BufferedLogSinkConsumer(logSink, params.getMinLogLevel())
+            : null
+        ) {
+            withThreadLogger(logMessageConsumer, () -> {
+                var hasAnyFrontendSourceFile = hasAnyFrontendSourceFile(enabledLanguages, sourceFiles, sonarProperties);
+                if (hasAnyFrontendSourceFile) {
+                    synchronized (shared.getFrontendScanMutex()) {
+                        analyzeSourceFiles(params, sourceFiles, activeRules, issueConsumer);
                     }
-                };
+                    return null;
+                }
+
+                var shards = splitIntoShards(sourceFiles, params.getAnalysisParallelism());
+                if (shards.size() <= 1) {
+                    analyzeSourceFiles(params, sourceFiles, activeRules, issueConsumer);
+                    return null;
+                }
+
+                analyzeShardsInParallel(params, shards, activeRules, issueConsumer, logMessageConsumer);
+                return null;
+            });
+        }
+    }
+
+    private void analyzeSourceFiles(
+        SonarLintAnalyzeParams params,
+        Collection<SourceFile> sourceFiles,
+        Collection<ActiveRule> activeRules,
+        Consumer<SonarLintIssue> issueConsumer
+    ) {
+        var moduleId = params.getModuleId();
+        var sonarProperties = params.getSonarProperties();
+
+        var inputFiles = sourceFiles.stream()
+            .map(sourceFile -> new SimpleClientInputFile(sourceFile, shared.getInputFileContentsCache()))
+            .collect(toUnmodifiableList());
+        SonarLintLogger.get().debug("Start analyzing {} files in module '{}'", inputFiles.size(), moduleId);
+
+        var analysisConfiguration = AnalysisConfiguration.builder()
+            .setBaseDir(params.getRepositoryRoot().toPath())
+            .addInputFiles(List.<ClientInputFile>copyOf(inputFiles))
+            .putAllExtraProperties(sonarProperties)
+            .addActiveRules(activeRules)
+            .build();
+
+        // Sensors can report issues from multiple threads, so conversion is done without any locking
+        var issueConverter = shared.getIssueConverter();
+        Consumer<org.sonarsource.sonarlint.core.analysis.api.Issue> issueListener = sonarIssue -> {
+            var issue = issueConverter.convert(sonarIssue);
+            if (issue != null) {
+                issueConsumer.accept(issue);
+            }
+        };
+
+        try {
+            shared.getModuleContainersPool().withModuleContainer(
+                moduleId,
+                getModuleConfigurationFingerprint(params.getEnabledLanguages(), sonarProperties),
+                moduleContainer -> moduleContainer.analyze(
+                    analysisConfiguration,
+                    issueListener,
+                    SIMPLE_PROGRESS_MONITOR,
+                    null
+                )
+            );
+
+        } finally {
+            inputFiles.forEach(SimpleClientInputFile::release);
+        }
+    }
+
+    private void analyzeShardsInParallel(
+        SonarLintAnalyzeParams params,
+        List<List<SourceFile>> shards,
+        Collection<ActiveRule> activeRules,
+        Consumer<SonarLintIssue> issueConsumer,
+        @Nullable LogMessageConsumer logMessageConsumer
+    ) throws InterruptedException {
+        SonarLintLogger.get().debug(
+            "Analyzing {} files in {} parallel shards",
+            params.getSourceFiles().size(),
+            shards.size()
+        );
 
-                var moduleRegistry = shared.getAnalysisContainer().getModuleRegistry();
-                var registryModuleId = moduleId + "#" + params.getJobId();
+        var executor = shared.getShardsExecutor();
+        var futures = new ArrayList<Future<?>>(shards.size());
+        try {
+            for (var shard : shards) {
+                futures.add(executor.submit(() ->
+                    withThreadLogger(logMessageConsumer, () -> {
+                        analyzeSourceFiles(params, shard, activeRules, issueConsumer);
+                        return null;
+                    })
+                ));
+            }
 
+            for (var future : futures) {
                 try {
-                    final ModuleContainer moduleContainer;
-                    synchronized (moduleRegistryMutex) {
-                        moduleContainer = requireNonNull(moduleRegistry.getContainerFor(registryModuleId));
-                    }
-                    moduleContainer.analyze(
-                        analysisConfiguration,
-                        issueListener,
-                        SIMPLE_PROGRESS_MONITOR,
-                        null
-                    );
-
-                } finally {
-                    synchronized (moduleRegistryMutex) {
-                        moduleRegistry.unregisterModule(registryModuleId);
-                    }
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw sneakyThrow(e.getCause());
                 }
+            }
 
-                return issues;
-            })
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Splits source files into shards of similar total size,
+     * assigning the largest remaining file to the smallest shard.
+     */
+    @VisibleForTesting
+    static List<List<SourceFile>> splitIntoShards(List<SourceFile> sourceFiles, int parallelism) {
+        var shardsCount = Math.min(parallelism, sourceFiles.size());
+        if (shardsCount <= 1) {
+            return List.of(sourceFiles);
+        }
+
+        var filesBySizeDesc = sourceFiles.stream()
+            .sorted(comparingLong((SourceFile sourceFile) -> sourceFile.getFile().length()).reversed())
+            .collect(toUnmodifiableList());
+
+        var shards = new ArrayList<List<SourceFile>>(shardsCount);
+        var shardSizes = new long[shardsCount];
+        var smallestShards = new PriorityQueue<Integer>(
+            shardsCount,
+            comparingLong((Integer index) -> shardSizes[index]).thenComparing(naturalOrder())
+        );
+        for (var index = 0; index < shardsCount; index++) {
+            shards.add(new ArrayList<>());
+            smallestShards.add(index);
+        }
+
+        for (var sourceFile : filesBySizeDesc) {
+            var index = requireNonNull(smallestShards.poll());
+            shards.get(index).add(sourceFile);
+            shardSizes[index] += Math.max(sourceFile.getFile().length(), 1);
+            smallestShards.add(index);
+        }
+
+        return shards;
+    }
+
+    private static String getModuleConfigurationFingerprint(
+        Set<SonarLintLanguage> enabledLanguages,
+        Map<String, String> sonarProperties
+    ) {
+        var hasher = sha256().newHasher();
+        enabledLanguages.stream()
+            .map(Enum::name)
+            .sorted()
+            .forEach(lang -> hasher.putString(lang, UTF_8).putByte((byte) 0));
+        new TreeMap<>(sonarProperties).forEach((key, value) -> hasher
+            .putString(key, UTF_8).putByte((byte) 0)
+            .putString(value, UTF_8).putByte((byte) 0)
         );
+        return hasher.hash().toString();
+    }
+
+    @Value
+    static class ActiveRulesCacheKey {
+        Set<SonarLintLanguage> enabledLanguages;
+        boolean enableRulesActivatedByDefault;
+        Set<String> enabledRulesConfig;
+        Set<String> disabledRulesConfig;
+        Map<String, Map<String, String>> rulesPropertiesConfig;
     }
 
     @Unmodifiable
@@ -223,25 +395,20 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
             .map(String::toLowerCase)
             .collect(toImmutableSet());
 
-        var enabledRules = getRulesKeys(enabledRulesConfig);
-        var disabledRules = getRulesKeys(disabledRulesConfig);
+        var enabledRules = resolveRuleKeys(getRulesKeys(enabledRulesConfig));
+        var disabledRules = resolveRuleKeys(getRulesKeys(disabledRulesConfig));
 
-        return shared.getAllRules().entrySet().stream()
+        var rulesByLanguage = shared.getRulesByLanguage();
+        return enabledLanguageIds.stream()
+            .map(rulesByLanguage::get)
+            .filter(Objects::nonNull)
+            .map(Map::entrySet)
+            .flatMap(Collection::stream)
             .filter(entry -> {
                 var ruleKey = entry.getKey();
                 var rule = entry.getValue();
 
-                var allRuleKeys = Stream.concat(
-                    Stream.of(ruleKey),
-                    rule.deprecatedRuleKeys().stream()
-                ).collect(toImmutableSet());
-
-                var ruleLanguage = rule.repository().language();
-                if (!enabledLanguageIds.contains(ruleLanguage.toLowerCase())) {
-                    return false;
-                }
-
-                if (disabledRules.stream().anyMatch(allRuleKeys::contains)) {
+                if (disabledRules.contains(ruleKey)) {
                     return false;
                 }
 
@@ -249,7 +416,7 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
                     return true;
                 }
 
-                return enabledRules.stream().anyMatch(allRuleKeys::contains);
+                return enabledRules.contains(ruleKey);
             })
             .collect(toImmutableMap(
                 Entry::getKey,
@@ -258,6 +425,18 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
             ));
     }
 
+    /**
+     * Resolves configured rule keys (current or deprecated) to the keys of {@link SonarLintSharedCode#getAllRules()}.
+     */
+    @Unmodifiable
+    private Set<RuleKey> resolveRuleKeys(Collection<RuleKey> ruleKeys) {
+        var ruleKeysIndex = shared.getRuleKeysIndex();
+        return ruleKeys.stream()
+            .map(ruleKeysIndex::get)
+            .flatMap(Collection::stream)
+            .collect(toImmutableSet());
+    }
+
     @Unmodifiable
     protected static Set<RuleKey> getRulesKeys(Collection<String> ruleKeyStrings) {
         return ruleKeyStrings.stream()
@@ -267,20 +446,16 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
     }
 
 
-    private final Object frontendScanMutex = new Object[0];
-
-    @SneakyThrows
-    private <T> T withSingleThreadedFirstFrontendScan(
+    private static boolean hasAnyFrontendSourceFile(
         Set<SonarLintLanguage> enabledLanguages,
         Collection<SourceFile> sourceFiles,
-        Map<String, String> sonarProperties,
-        Callable<T> action
+        Map<String, String> sonarProperties
     ) {
         var enabledFrontendLanguages = enabledLanguages.stream()
             .filter(lang -> lang.getType() == SonarLintLanguageType.FRONTEND)
             .collect(toUnmodifiableList());
         if (enabledFrontendLanguages.isEmpty()) {
-            return action.call();
+            return false;
         }
 
         Predicate<String> frontendRelativePathPredicate = alwaysFalse();
@@ -288,16 +463,9 @@ public class SonarLintAnalyzerDefault implements SonarLintAnalyzer {
             var langPredicate = getLanguageRelativePathPredicate(lang, sonarProperties);
             frontendRelativePathPredicate = frontendRelativePathPredicate.or(langPredicate);
         }
-        var hasAnyFrontendSourceFile = sourceFiles.stream()
+        return sourceFiles.stream()
             .map(SourceFile::getRelativePath)
             .anyMatch(frontendRelativePathPredicate);
-        if (hasAnyFrontendSourceFile) {
-            synchronized (frontendScanMutex) {
-                return action.call();
-            }
-        }
-
-        return action.call();
     }
 
 }
@@ -17,6 +17,12 @@ class SonarLintHeartbeatDefault implements SonarLintHeartbeat {
         lastPingNanos = nanoTime();
     }
 
+    @Override
+    public void flushLogs() throws RemoteException {
+        System.out.flush();
+        System.err.flush();
+    }
+
     public boolean isTimedOut() {
         return nanoTime() - lastPingNanos > TIMEOUT.toNanos();
     }
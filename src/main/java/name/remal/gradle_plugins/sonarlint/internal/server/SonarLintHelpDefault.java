@@ -9,6 +9,8 @@ import static name.remal.gradle_plugins.sonarlint.internal.RulesDocumentation.Ru
 import static name.remal.gradle_plugins.sonarlint.internal.RulesDocumentation.RuleStatus.ENABLED_BY_DEFAULT;
 
 import java.rmi.RemoteException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -85,6 +87,7 @@ public class SonarLintHelpDefault implements SonarLintHelp {
     @SneakyThrows
     public RulesDocumentation getRulesDocumentation() throws RemoteException {
         var rulesDoc = new RulesDocumentation();
+        Map<String, Optional<String>> sonarLanguageKeys = new HashMap<>();
         shared.getAllRules().forEach((key, rule) -> rulesDoc.rule(key.toString(), ruleDoc -> {
             ruleDoc.setName(rule.name());
 
@@ -95,8 +98,9 @@ public class SonarLintHelpDefault implements SonarLintHelp {
             }
 
             Optional.ofNullable(rule.repository().language())
-                .flatMap(SonarLanguage::forKey)
-                .map(SonarLanguage::getSonarLanguageKey)
+                .flatMap(language -> sonarLanguageKeys.computeIfAbsent(language, __ ->
+                    SonarLanguage.forKey(language).map(SonarLanguage::getSonarLanguageKey)
+                ))
                 .ifPresent(ruleDoc::setLanguage);
 
             rule.params().forEach(param -> ruleDoc.param(param.key(), paramDoc -> {
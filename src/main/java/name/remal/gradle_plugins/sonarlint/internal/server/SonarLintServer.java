@@ -99,6 +99,14 @@ public class SonarLintServer
             .build();
         var shared = registerCloseable(new SonarLintSharedCode(sonarLintParams));
 
+        {
+            var warmUpThread = new Thread(shared::warmUp);
+            warmUpThread.setName(getClass().getSimpleName() + "-warm-up");
+            warmUpThread.setDaemon(true);
+            registerCloseable(warmUpThread::interrupt);
+            warmUpThread.start();
+        }
+
         {
             SonarLintAnalyzer analyzer = new SonarLintAnalyzerDefault(shared);
             analyzer = usedThreads.withRegisterThreadEveryCall(SonarLintAnalyzer.class, analyzer);
@@ -4,33 +4,48 @@ import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static java.nio.file.Files.createDirectories;
 import static java.nio.file.Files.createTempDirectory;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.function.Function.identity;
 import static java.util.function.Predicate.not;
 import static lombok.AccessLevel.NONE;
-import static name.remal.gradle_plugins.sonarlint.internal.server.LogOutputViaSlf4j.LOG_OUTPUT_VIA_SLF4J;
 import static name.remal.gradle_plugins.toolkit.LazyProxy.asLazyListProxy;
 import static name.remal.gradle_plugins.toolkit.LazyProxy.asLazyMapProxy;
 import static name.remal.gradle_plugins.toolkit.PathUtils.tryToDeleteRecursivelyIgnoringFailure;
 import static name.remal.gradle_plugins.toolkit.SneakyThrowUtils.sneakyThrow;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import name.remal.gradle_plugins.sonarlint.internal.server.SonarLintAnalyzerDefault.ActiveRulesCacheKey;
 import name.remal.gradle_plugins.toolkit.CloseablesContainer;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.rule.ActiveRule;
 import org.sonar.api.config.PropertyDefinition;
 import org.sonar.api.config.PropertyDefinitions;
 import org.sonar.api.rule.RuleKey;
@@ -133,6 +148,41 @@ public class SonarLintSharedCode implements AutoCloseable {
         });
     }
 
+    @Getter(lazy = true)
+    private final ModuleContainersPool moduleContainersPool = createModuleContainersPool();
+
+    private ModuleContainersPool createModuleContainersPool() {
+        var pool = new ModuleContainersPool(getAnalysisContainer());
+        registerCloseable(pool);
+        return pool;
+    }
+
+    private static final Duration SHARDS_THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    /**
+     * Runs parallel shards of all analyses, so the number of analysis threads is bounded by the number of CPUs.
+     */
+    @Getter(lazy = true)
+    private final ExecutorService shardsExecutor = createShardsExecutor();
+
+    private ExecutorService createShardsExecutor() {
+        var threads = Runtime.getRuntime().availableProcessors();
+        var executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            SHARDS_THREAD_KEEP_ALIVE.toMillis(),
+            MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(getClass().getSimpleName() + "-shard-%d")
+                .setDaemon(true)
+                .build()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        registerCloseable(executor::shutdownNow);
+        return executor;
+    }
+
     @Getter(lazy = true)
     private final DefinitionsExtractorContainer definitionsExtractorContainer = createDefinitionsExtractorContainer();
 
@@ -171,6 +221,94 @@ public class SonarLintSharedCode implements AutoCloseable {
             ));
     }));
 
+    /**
+     * Maps current and deprecated keys of all rules to the keys of {@link #getAllRules()}.
+     * A deprecated key maps to all rules declaring it, as a rule can be split into several rules.
+     */
+    @Getter(lazy = true)
+    @Unmodifiable
+    private final SetMultimap<RuleKey, RuleKey> ruleKeysIndex = createRuleKeysIndex();
+
+    private SetMultimap<RuleKey, RuleKey> createRuleKeysIndex() {
+        var index = ImmutableSetMultimap.<RuleKey, RuleKey>builder();
+        getAllRules().keySet().forEach(ruleKey -> index.put(ruleKey, ruleKey));
+        getAllRules().forEach((ruleKey, rule) ->
+            rule.deprecatedRuleKeys().forEach(deprecatedRuleKey -> index.put(deprecatedRuleKey, ruleKey))
+        );
+        return index.build();
+    }
+
+    public static final String NO_LANGUAGE = "";
+
+    /**
+     * All rules grouped by lower-cased language key.
+     * Rules without a language are grouped by {@link #NO_LANGUAGE}.
+     */
+    @Unmodifiable
+    private final Map<String, Map<RuleKey, RulesDefinition.Rule>> rulesByLanguage = asLazyMapProxy(() -> {
+        var rules = new LinkedHashMap<String, ImmutableMap.Builder<RuleKey, RulesDefinition.Rule>>();
+        getAllRules().forEach((ruleKey, rule) -> {
+            var language = Optional.ofNullable(rule.repository().language())
+                .map(String::toLowerCase)
+                .orElse(NO_LANGUAGE);
+            rules.computeIfAbsent(language, __ -> ImmutableMap.builder()).put(ruleKey, rule);
+        });
+        return rules.entrySet().stream()
+            .collect(toImmutableMap(Entry::getKey, entry -> entry.getValue().build()));
+    });
+
+
+    @Getter(NONE)
+    private final FutureTask<?> warmUpTask = new FutureTask<>(this::warmUpImpl, null);
+
+    /**
+     * Initializes plugins, containers and rules, so the first analysis doesn't wait for it.
+     */
+    public void warmUp() {
+        warmUpTask.run();
+    }
+
+    /**
+     * Waits for {@link #warmUp()} to finish, running it in the current thread if it hasn't started yet.
+     * Analysis calls it, so it doesn't initialize the same state concurrently with the warm-up.
+     */
+    @SneakyThrows
+    public void awaitWarmUp() {
+        warmUpTask.run();
+        warmUpTask.get();
+    }
+
+    private void warmUpImpl() {
+        try {
+            getLoadedPlugins();
+            getAnalysisContainer();
+            getModuleContainersPool();
+            getAllRules().size();
+            getRuleKeysIndex().size();
+            getRulesByLanguage().size();
+        } catch (Throwable e) {
+            logger.debug("Warm-up failed", e);
+        }
+    }
+
+
+    //#region State shared by all analyzers using this instance
+
+    /**
+     * Frontend analyzers don't support concurrent scans, so analysis of frontend source files is serialized.
+     */
+    private final Object frontendScanMutex = new Object[0];
+
+    private final Cache<ActiveRulesCacheKey, Collection<ActiveRule>> activeRulesCache = CacheBuilder.newBuilder()
+        .maximumSize(64)
+        .build();
+
+    private final SonarIssueConverter issueConverter = new SonarIssueConverter(allRules);
+
+    private final ClientInputFileContentsCache inputFileContentsCache = new ClientInputFileContentsCache();
+
+    //#endregion
+
 
     //#region close
 
@@ -200,14 +338,16 @@ public class SonarLintSharedCode implements AutoCloseable {
             return action.call();
         }
 
-        var newTarget = logMessageConsumer != null
+        // Messages are deduplicated per target, so a new target is created for every call
+        AbstractLogOutput newTarget = logMessageConsumer != null
             ? new LogOutputViaConsumer(logMessageConsumer)
-            : LOG_OUTPUT_VIA_SLF4J;
+            : new LogOutputViaSlf4j();
         logger.setTarget(newTarget);
         try {
             return action.call();
 
         } finally {
+            newTarget.logSuppressedDuplicatesSummary();
             logger.setTarget(prevTarget);
         }
     }
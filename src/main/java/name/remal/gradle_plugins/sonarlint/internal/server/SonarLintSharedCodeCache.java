@@ -0,0 +1,131 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A class loader scoped cache of {@link SonarLintSharedCode}, so in-process analysis doesn't load Sonar plugins
+ * for every task.
+ *
+ * <p>Instances are reference-counted and evicted after {@link #IDLE_TIMEOUT} without any usage.
+ * While the cache isn't empty, a {@link SharedScheduler} task evicts idle instances every {@link #CLEANUP_INTERVAL}.
+ * The task is cancelled once the cache is empty, so nothing holds the class loader after that.
+ * An instance evicted while it's in use is closed when it's released.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public abstract class SonarLintSharedCodeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SonarLintSharedCodeCache.class);
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(1);
+
+
+    private static final Cache<SonarLintParams, CachedSharedCode> CACHE = CacheBuilder.newBuilder()
+        .expireAfterAccess(IDLE_TIMEOUT)
+        .removalListener(SonarLintSharedCodeCache::onRemoval)
+        .build();
+
+    private static final Map<SonarLintSharedCode, CachedSharedCode> ACQUIRED = new IdentityHashMap<>();
+
+    @Nullable
+    private static ScheduledFuture<?> cleanupTask;
+
+    @SneakyThrows
+    public static SonarLintSharedCode acquireSharedCode(SonarLintParams params) {
+        synchronized (CACHE) {
+            CACHE.cleanUp();
+            var cached = CACHE.get(params, () -> new CachedSharedCode(new SonarLintSharedCode(params)));
+            cached.usages++;
+            ACQUIRED.put(cached.shared, cached);
+
+            if (cleanupTask == null) {
+                cleanupTask = SharedScheduler.scheduleWithFixedDelay(
+                    SonarLintSharedCodeCache::cleanUpIdle,
+                    CLEANUP_INTERVAL
+                );
+            }
+
+            return cached.shared;
+        }
+    }
+
+    public static void releaseSharedCode(SonarLintSharedCode shared) {
+        synchronized (CACHE) {
+            var cached = ACQUIRED.get(shared);
+            if (cached == null) {
+                shared.close();
+                return;
+            }
+
+            cached.usages--;
+            if (cached.usages <= 0) {
+                ACQUIRED.remove(shared);
+                if (cached.evicted) {
+                    closeSharedCode(cached);
+                } else {
+                    // Restart the idle timeout from the moment the instance stopped being used
+                    CACHE.getIfPresent(shared.getParams());
+                }
+            }
+
+            CACHE.cleanUp();
+        }
+    }
+
+    private static void cleanUpIdle() {
+        try {
+            synchronized (CACHE) {
+                CACHE.cleanUp();
+                if (CACHE.size() == 0 && cleanupTask != null) {
+                    cleanupTask.cancel(false);
+                    cleanupTask = null;
+                }
+            }
+        } catch (Throwable e) {
+            logger.warn("Idle shared SonarLint code can't be closed", e);
+        }
+    }
+
+    private static void onRemoval(RemovalNotification<SonarLintParams, CachedSharedCode> notification) {
+        var cached = notification.getValue();
+        if (cached == null) {
+            return;
+        }
+
+        synchronized (CACHE) {
+            cached.evicted = true;
+            if (cached.usages <= 0) {
+                closeSharedCode(cached);
+            }
+        }
+    }
+
+    private static void closeSharedCode(CachedSharedCode cached) {
+        logger.debug("Closing idle shared SonarLint code");
+        cached.shared.close();
+    }
+
+
+    @RequiredArgsConstructor
+    private static class CachedSharedCode {
+        final SonarLintSharedCode shared;
+        int usages;
+        boolean evicted;
+    }
+
+}
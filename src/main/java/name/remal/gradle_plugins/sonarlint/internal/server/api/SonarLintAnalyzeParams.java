@@ -10,6 +10,7 @@ import java.util.Set;
 import name.remal.gradle_plugins.sonarlint.SonarLintLanguage;
 import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
 import org.immutables.value.Value;
+import org.slf4j.event.Level;
 
 @Value.Immutable
 public interface SonarLintAnalyzeParams extends Serializable {
@@ -55,4 +56,17 @@ public interface SonarLintAnalyzeParams extends Serializable {
         return Map.of();
     }
 
+    @Value.Default
+    default int getAnalysisParallelism() {
+        return 1;
+    }
+
+    /**
+     * Messages below this level are dropped by the server, before they are sent to the log sink.
+     */
+    @Value.Default
+    default Level getMinLogLevel() {
+        return Level.TRACE;
+    }
+
 }
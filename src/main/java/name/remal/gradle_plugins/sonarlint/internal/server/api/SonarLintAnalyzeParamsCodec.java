@@ -0,0 +1,97 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static com.google.common.hash.Hashing.sha256;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.NoArgsConstructor;
+
+/**
+ * Constants and primitives of the binary format of {@link SonarLintAnalyzeParams},
+ * shared by {@link SonarLintAnalyzeParamsEncoder} and {@link SonarLintAnalyzeParamsDecoder}.
+ */
+@NoArgsConstructor(access = PRIVATE)
+abstract class SonarLintAnalyzeParamsCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+
+    static final int SOURCE_FILE_TEST = 1;
+
+    static final int SOURCE_FILE_RELATIVE_TO_ROOT = 1 << 1;
+
+    static final int SOURCE_FILE_UNDER_ROOT = 1 << 2;
+
+
+    static final int SONAR_PROPERTIES_FULL = 0;
+
+    static final int SONAR_PROPERTIES_DELTA = 1;
+
+
+    static String hashSonarProperties(Map<String, String> sonarProperties) {
+        var hasher = sha256().newHasher();
+        new TreeMap<>(sonarProperties).forEach((key, value) -> {
+            hasher.putInt(key.length()).putString(key, UTF_8);
+            hasher.putInt(value.length()).putString(value, UTF_8);
+        });
+        return hasher.hash().toString();
+    }
+
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        var bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static void writeStrings(DataOutput out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (var value : values) {
+            writeString(out, value);
+        }
+    }
+
+    static void writeStringMap(DataOutput out, Map<String, String> map) throws IOException {
+        out.writeInt(map.size());
+        for (var entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    static List<String> readStrings(DataInput in) throws IOException {
+        var size = in.readInt();
+        var values = new ArrayList<String>(size);
+        for (var i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    static Map<String, String> readStringMap(DataInput in) throws IOException {
+        var size = in.readInt();
+        var map = new LinkedHashMap<String, String>();
+        for (var i = 0; i < size; i++) {
+            var key = readString(in);
+            var value = readString(in);
+            map.put(key, value);
+        }
+        return map;
+    }
+
+}
@@ -0,0 +1,153 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.FORMAT_VERSION;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SONAR_PROPERTIES_DELTA;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SONAR_PROPERTIES_FULL;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SOURCE_FILE_RELATIVE_TO_ROOT;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SOURCE_FILE_TEST;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SOURCE_FILE_UNDER_ROOT;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.hashSonarProperties;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.readString;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.readStringMap;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.readStrings;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import name.remal.gradle_plugins.sonarlint.SonarLintLanguage;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.event.Level;
+
+/**
+ * Decodes {@link SonarLintAnalyzeParams} encoded by {@link SonarLintAnalyzeParamsEncoder}.
+ *
+ * <p>Recently decoded Sonar properties are kept, so the encoder can send them as a delta.
+ */
+public class SonarLintAnalyzeParamsDecoder {
+
+    private final Cache<String, Map<String, String>> decodedSonarProperties = CacheBuilder.newBuilder()
+        .maximumSize(64)
+        .build();
+
+    /**
+     * Returns {@code null} if the params can't be decoded by this decoder, so they must be sent in another way.
+     * It happens if they are encoded in another format version,
+     * or if Sonar properties are encoded as a delta against properties this decoder doesn't have.
+     */
+    @Nullable
+    @SneakyThrows
+    public SonarLintAnalyzeParams decode(byte[] encodedParams) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(encodedParams))) {
+            var formatVersion = in.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                return null;
+            }
+
+            var builder = ImmutableSonarLintAnalyzeParams.builder();
+            builder.jobId(readString(in));
+            var repositoryRoot = new File(readString(in));
+            builder.repositoryRoot(repositoryRoot);
+            builder.moduleId(readString(in));
+            builder.sourceFiles(readSourceFiles(in, repositoryRoot));
+
+            var enabledLanguages = new LinkedHashSet<SonarLintLanguage>();
+            readStrings(in).forEach(name -> enabledLanguages.add(SonarLintLanguage.valueOf(name)));
+            builder.enabledLanguages(enabledLanguages);
+
+            var sonarProperties = readSonarProperties(in);
+            if (sonarProperties == null) {
+                return null;
+            }
+            builder.sonarProperties(sonarProperties);
+
+            builder.isEnableRulesActivatedByDefault(in.readBoolean());
+            builder.enabledRulesConfig(readStrings(in));
+            builder.disabledRulesConfig(readStrings(in));
+
+            var rulesPropertiesConfig = new LinkedHashMap<String, Map<String, String>>();
+            var rulesPropertiesConfigSize = in.readInt();
+            for (var i = 0; i < rulesPropertiesConfigSize; i++) {
+                var rule = readString(in);
+                rulesPropertiesConfig.put(rule, readStringMap(in));
+            }
+            builder.rulesPropertiesConfig(rulesPropertiesConfig);
+
+            builder.analysisParallelism(in.readInt());
+            builder.minLogLevel(Level.valueOf(readString(in)));
+
+            return builder.build();
+        }
+    }
+
+    private static List<SourceFile> readSourceFiles(DataInput in, File repositoryRoot) throws IOException {
+        var encodings = readStrings(in);
+
+        var rootPrefix = repositoryRoot.getPath() + File.separatorChar;
+        var sourceFilesCount = in.readInt();
+        var sourceFiles = new ArrayList<SourceFile>(sourceFilesCount);
+        for (var i = 0; i < sourceFilesCount; i++) {
+            var flags = in.readByte();
+            var relativePath = readString(in);
+
+            final File file;
+            if ((flags & SOURCE_FILE_UNDER_ROOT) != 0) {
+                file = new File(rootPrefix + readString(in));
+            } else if ((flags & SOURCE_FILE_RELATIVE_TO_ROOT) != 0) {
+                file = new File(repositoryRoot, relativePath);
+            } else {
+                file = new File(readString(in));
+            }
+
+            var encodingIndex = in.readInt();
+            sourceFiles.add(SourceFile.builder()
+                .file(file)
+                .relativePath(relativePath)
+                .test((flags & SOURCE_FILE_TEST) != 0)
+                .encoding(encodingIndex >= 0 ? encodings.get(encodingIndex) : null)
+                .build()
+            );
+        }
+        return sourceFiles;
+    }
+
+    @Nullable
+    private Map<String, String> readSonarProperties(DataInput in) throws IOException {
+        var mode = in.readByte();
+        final Map<String, String> sonarProperties;
+        if (mode == SONAR_PROPERTIES_FULL) {
+            sonarProperties = readStringMap(in);
+
+        } else if (mode == SONAR_PROPERTIES_DELTA) {
+            var baseHash = readString(in);
+            var changedProperties = readStringMap(in);
+            var removedKeys = readStrings(in);
+
+            var baseProperties = decodedSonarProperties.getIfPresent(baseHash);
+            if (baseProperties == null) {
+                return null;
+            }
+
+            sonarProperties = new LinkedHashMap<>(baseProperties);
+            removedKeys.forEach(sonarProperties::remove);
+            sonarProperties.putAll(changedProperties);
+
+        } else {
+            throw new IllegalArgumentException("Unsupported Sonar properties encoding mode: " + mode);
+        }
+
+        decodedSonarProperties.put(hashSonarProperties(sonarProperties), sonarProperties);
+        return sonarProperties;
+    }
+
+}
@@ -0,0 +1,148 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static java.util.stream.Collectors.toList;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.FORMAT_VERSION;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SONAR_PROPERTIES_DELTA;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SONAR_PROPERTIES_FULL;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SOURCE_FILE_RELATIVE_TO_ROOT;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SOURCE_FILE_TEST;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.SOURCE_FILE_UNDER_ROOT;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.hashSonarProperties;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.writeString;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.writeStringMap;
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintAnalyzeParamsCodec.writeStrings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.SneakyThrows;
+import lombok.Value;
+import name.remal.gradle_plugins.sonarlint.SonarLintLanguage;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+
+/**
+ * Encodes {@link SonarLintAnalyzeParams} into a compact binary format, decoded by
+ * {@link SonarLintAnalyzeParamsDecoder}.
+ *
+ * <p>Source file paths are written relative to the repository root, and every distinct encoding is written once.
+ * Sonar properties are written as a delta against the properties previously encoded for the same module.
+ * If the decoder doesn't have those properties anymore, call {@link #forgetSonarProperties(String)}
+ * and encode the params again.
+ */
+public class SonarLintAnalyzeParamsEncoder {
+
+    private final Map<String, EncodedSonarProperties> lastEncodedSonarProperties = new ConcurrentHashMap<>();
+
+    @SneakyThrows
+    public byte[] encode(SonarLintAnalyzeParams params) {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, params.getJobId());
+            writeString(out, params.getRepositoryRoot().getPath());
+            writeString(out, params.getModuleId());
+            writeSourceFiles(out, params.getRepositoryRoot(), params.getSourceFiles());
+            writeStrings(out, params.getEnabledLanguages().stream()
+                .map(SonarLintLanguage::name)
+                .collect(toList())
+            );
+            writeSonarProperties(out, params.getModuleId(), params.getSonarProperties());
+            out.writeBoolean(params.isEnableRulesActivatedByDefault());
+            writeStrings(out, params.getEnabledRulesConfig());
+            writeStrings(out, params.getDisabledRulesConfig());
+            out.writeInt(params.getRulesPropertiesConfig().size());
+            for (var entry : params.getRulesPropertiesConfig().entrySet()) {
+                writeString(out, entry.getKey());
+                writeStringMap(out, entry.getValue());
+            }
+            out.writeInt(params.getAnalysisParallelism());
+            writeString(out, params.getMinLogLevel().name());
+        }
+        return bytes.toByteArray();
+    }
+
+    public void forgetSonarProperties(String moduleId) {
+        lastEncodedSonarProperties.remove(moduleId);
+    }
+
+    private static void writeSourceFiles(
+        DataOutput out,
+        File repositoryRoot,
+        List<SourceFile> sourceFiles
+    ) throws IOException {
+        var encodingIndexes = new LinkedHashMap<String, Integer>();
+        sourceFiles.stream()
+            .map(SourceFile::getEncoding)
+            .filter(Objects::nonNull)
+            .forEach(encoding -> encodingIndexes.putIfAbsent(encoding, encodingIndexes.size()));
+        writeStrings(out, encodingIndexes.keySet());
+
+        var rootPrefix = repositoryRoot.getPath() + File.separatorChar;
+        out.writeInt(sourceFiles.size());
+        for (var sourceFile : sourceFiles) {
+            var path = sourceFile.getFile().getPath();
+            var flags = sourceFile.isTest() ? SOURCE_FILE_TEST : 0;
+            if (new File(repositoryRoot, sourceFile.getRelativePath()).equals(sourceFile.getFile())) {
+                flags |= SOURCE_FILE_RELATIVE_TO_ROOT;
+            } else if (path.startsWith(rootPrefix)) {
+                flags |= SOURCE_FILE_UNDER_ROOT;
+            }
+            out.writeByte(flags);
+
+            writeString(out, sourceFile.getRelativePath());
+            if ((flags & SOURCE_FILE_UNDER_ROOT) != 0) {
+                writeString(out, path.substring(rootPrefix.length()));
+            } else if ((flags & SOURCE_FILE_RELATIVE_TO_ROOT) == 0) {
+                writeString(out, path);
+            }
+
+            var encoding = sourceFile.getEncoding();
+            out.writeInt(encoding != null ? encodingIndexes.get(encoding) : -1);
+        }
+    }
+
+    private void writeSonarProperties(
+        DataOutput out,
+        String moduleId,
+        Map<String, String> sonarProperties
+    ) throws IOException {
+        var encoded = new EncodedSonarProperties(hashSonarProperties(sonarProperties), Map.copyOf(sonarProperties));
+        var previous = lastEncodedSonarProperties.put(moduleId, encoded);
+        if (previous == null) {
+            out.writeByte(SONAR_PROPERTIES_FULL);
+            writeStringMap(out, sonarProperties);
+            return;
+        }
+
+        out.writeByte(SONAR_PROPERTIES_DELTA);
+        writeString(out, previous.getHash());
+
+        var changedProperties = new LinkedHashMap<String, String>();
+        sonarProperties.forEach((key, value) -> {
+            if (!value.equals(previous.getProperties().get(key))) {
+                changedProperties.put(key, value);
+            }
+        });
+        writeStringMap(out, changedProperties);
+
+        var removedKeys = previous.getProperties().keySet().stream()
+            .filter(key -> !sonarProperties.containsKey(key))
+            .collect(toList());
+        writeStrings(out, removedKeys);
+    }
+
+
+    @Value
+    private static class EncodedSonarProperties {
+        String hash;
+        Map<String, String> properties;
+    }
+
+}
@@ -14,4 +14,23 @@ public interface SonarLintAnalyzer extends Remote {
         @Nullable SonarLintLogSink logSink
     ) throws RemoteException;
 
+    /**
+     * The same as {@link #analyze(SonarLintAnalyzeParams, SonarLintLogSink)},
+     * but with params encoded by {@link SonarLintAnalyzeParamsEncoder}, and issues sent to the issue sink in chunks.
+     * Rule descriptions are sent once per rule.
+     *
+     * <p>Returns {@code false} if the server can't decode the params:
+     * they refer to Sonar properties the server doesn't have, or they are encoded in another format version.
+     * In this case, the params must be encoded and sent again
+     * after {@link SonarLintAnalyzeParamsEncoder#forgetSonarProperties(String)},
+     * or sent to {@link #analyze(SonarLintAnalyzeParams, SonarLintLogSink)}.
+     *
+     * <p>Encoded params can be sent only to the server the encoder has been sending params to.
+     */
+    boolean analyzeEncoded(
+        byte[] encodedParams,
+        SonarLintIssueSink issueSink,
+        @Nullable SonarLintLogSink logSink
+    ) throws RemoteException;
+
 }
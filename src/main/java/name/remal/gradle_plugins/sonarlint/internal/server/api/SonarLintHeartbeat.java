@@ -7,4 +7,9 @@ public interface SonarLintHeartbeat extends Remote {
 
     void ping() throws RemoteException;
 
+    /**
+     * Flushes the server output, so everything logged before this call can be read from the server logs file.
+     */
+    void flushLogs() throws RemoteException;
+
 }
@@ -0,0 +1,80 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static lombok.AccessLevel.PRIVATE;
+import static name.remal.gradle_plugins.toolkit.issues.Issue.newIssue;
+import static name.remal.gradle_plugins.toolkit.issues.TextMessage.textMessageOf;
+
+import java.io.File;
+import java.io.Serializable;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import name.remal.gradle_plugins.toolkit.issues.HtmlMessage;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import name.remal.gradle_plugins.toolkit.issues.IssueSeverity;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link Issue} without the rule description, so the description can be sent once per rule.
+ */
+@Value
+@Builder
+@RequiredArgsConstructor(access = PRIVATE)
+@NoArgsConstructor(access = PRIVATE, force = true)
+public class SonarLintIssue implements Serializable {
+
+    @NonNull
+    String rule;
+
+    @NonNull
+    String message;
+
+    @NonNull
+    File sourceFile;
+
+    @Nullable
+    Integer startLine;
+
+    @Nullable
+    Integer startColumn;
+
+    @Nullable
+    Integer endLine;
+
+    @Nullable
+    Integer endColumn;
+
+    @Nullable
+    IssueSeverity severity;
+
+    @Nullable
+    String category;
+
+    public Issue toIssue(@Nullable HtmlMessage description) {
+        return newIssue(builder -> {
+            builder.rule(rule);
+            builder.message(textMessageOf(message));
+
+            builder.sourceFile(sourceFile);
+            builder.startLine(startLine);
+            builder.startColumn(startColumn);
+            builder.endLine(endLine);
+            builder.endColumn(endColumn);
+
+            if (severity != null) {
+                builder.severity(severity);
+            }
+
+            if (category != null) {
+                builder.category(category);
+            }
+
+            if (description != null) {
+                builder.description(description);
+            }
+        });
+    }
+
+}
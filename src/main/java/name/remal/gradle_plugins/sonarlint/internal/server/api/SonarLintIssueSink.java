@@ -0,0 +1,17 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.List;
+import java.util.Map;
+
+public interface SonarLintIssueSink extends Remote {
+
+    /**
+     * Receives the next chunk of issues.
+     *
+     * @param ruleHtmlDescriptions HTML descriptions of rules that weren't sent in previous chunks
+     */
+    void onIssues(List<SonarLintIssue> issues, Map<String, String> ruleHtmlDescriptions) throws RemoteException;
+
+}
@@ -0,0 +1,39 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+import static java.util.stream.Collectors.toUnmodifiableList;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.Unmodifiable;
+
+@NoArgsConstructor(access = PRIVATE)
+public abstract class SonarLintIssueUtils {
+
+    private static final Comparator<SonarLintIssue> ISSUES_COMPARATOR = Comparator
+        .comparing(SonarLintIssue::getSourceFile)
+        .thenComparing(SonarLintIssue::getStartLine, nullsFirst(naturalOrder()))
+        .thenComparing(SonarLintIssue::getStartColumn, nullsFirst(naturalOrder()))
+        .thenComparing(SonarLintIssue::getRule)
+        .thenComparing(SonarLintIssue::getEndLine, nullsFirst(naturalOrder()))
+        .thenComparing(SonarLintIssue::getEndColumn, nullsFirst(naturalOrder()))
+        .thenComparing(SonarLintIssue::getMessage)
+        .thenComparing(SonarLintIssue::getSeverity, nullsFirst(naturalOrder()))
+        .thenComparing(SonarLintIssue::getCategory, nullsFirst(naturalOrder()));
+
+    /**
+     * Removes duplicates and sorts issues, so the result doesn't depend on the order sensors report them in.
+     */
+    @Unmodifiable
+    public static List<SonarLintIssue> sortIssues(Collection<SonarLintIssue> issues) {
+        return issues.stream()
+            .distinct()
+            .sorted(ISSUES_COMPARATOR)
+            .collect(toUnmodifiableList());
+    }
+
+}
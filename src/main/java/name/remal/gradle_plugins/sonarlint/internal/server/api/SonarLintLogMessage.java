@@ -0,0 +1,24 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.Serializable;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+@Value
+@Builder
+@RequiredArgsConstructor(access = PRIVATE)
+@NoArgsConstructor(access = PRIVATE, force = true)
+public class SonarLintLogMessage implements Serializable {
+
+    @NonNull
+    String levelName;
+
+    @NonNull
+    String message;
+
+}
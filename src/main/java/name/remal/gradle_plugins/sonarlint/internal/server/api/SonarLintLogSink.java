@@ -2,10 +2,17 @@ package name.remal.gradle_plugins.sonarlint.internal.server.api;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
 
 @FunctionalInterface
 public interface SonarLintLogSink extends Remote {
 
     void onMessage(String levelName, String message) throws RemoteException;
 
+    default void onMessages(List<SonarLintLogMessage> messages) throws RemoteException {
+        for (var message : messages) {
+            onMessage(message.getLevelName(), message.getMessage());
+        }
+    }
+
 }
@@ -0,0 +1,75 @@
+package name.remal.gradle_plugins.sonarlint.internal.utils;
+
+import static name.remal.gradle_plugins.toolkit.PathUtils.normalizePath;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A trie of normalized paths, to check if a path is under any of them.
+ *
+ * <p>A check walks over the path's name elements once, regardless of the number of indexed paths.
+ */
+public class PathPrefixIndex {
+
+    private final Node rootNode = new Node();
+
+    private final boolean empty;
+
+    public PathPrefixIndex(Collection<Path> prefixes) {
+        prefixes.forEach(this::add);
+        this.empty = prefixes.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Returns {@code true} if the path is equal to, or is under, any of the indexed paths.
+     */
+    public boolean containsPrefixOf(Path path) {
+        path = normalizePath(path);
+
+        var node = rootNode.children.get(path.getRoot());
+        if (node == null) {
+            return false;
+        }
+
+        for (var name : path) {
+            if (node.terminal) {
+                return true;
+            }
+
+            node = node.children.get(name);
+            if (node == null) {
+                return false;
+            }
+        }
+
+        return node.terminal;
+    }
+
+    private void add(Path prefix) {
+        prefix = normalizePath(prefix);
+
+        var node = rootNode.children.computeIfAbsent(prefix.getRoot(), __ -> new Node());
+        for (var name : prefix) {
+            node = node.children.computeIfAbsent(name, __ -> new Node());
+        }
+        node.terminal = true;
+    }
+
+
+    private static class Node {
+
+        // Path elements are used as keys, as they compare according to the file system's case sensitivity
+        final Map<Path, Node> children = new HashMap<>();
+
+        boolean terminal;
+
+    }
+
+}
@@ -3,7 +3,6 @@ package name.remal.gradle_plugins.sonarlint.internal.utils;
 import static java.lang.Math.min;
 import static java.lang.String.format;
 import static lombok.AccessLevel.PRIVATE;
-import static name.remal.gradle_plugins.sonarlint.internal.utils.AvailablePorts.getAvailablePort;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -33,7 +32,7 @@ public abstract class RegistryFactory {
 
         for (var attempt = 1; attempt <= REGISTRY_START_ATTEMPTS; attempt++) {
             try {
-                var port = getAvailablePort(socketFactory.getBindAddr());
+                var port = socketFactory.prebindServerSocket();
                 var registry = LocateRegistry.createRegistry(port, socketFactory, socketFactory);
                 var socketAddress = new InetSocketAddress(socketFactory.getBindAddr(), port);
                 logger.info("%s RMI registry created at %s", registryName, socketAddress);
@@ -45,6 +44,8 @@ public abstract class RegistryFactory {
                     .build();
 
             } catch (IOException e) {
+                socketFactory.closePreboundServerSocket();
+
                 if (attempt >= REGISTRY_START_ATTEMPTS) {
                     throw new RegistryFactoryException(REGISTRY_START_FAILED_MESSAGE, e);
                 }
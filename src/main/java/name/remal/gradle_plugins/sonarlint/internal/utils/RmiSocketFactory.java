@@ -1,6 +1,7 @@
 package name.remal.gradle_plugins.sonarlint.internal.utils;
 
 import static java.lang.Math.toIntExact;
+import static lombok.AccessLevel.NONE;
 import static lombok.AccessLevel.PRIVATE;
 
 import java.io.IOException;
@@ -12,14 +13,20 @@ import java.net.Socket;
 import java.rmi.server.RMIClientSocketFactory;
 import java.rmi.server.RMIServerSocketFactory;
 import java.time.Duration;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * RMI reuses connections and listening sockets only for equal socket factories,
+ * so factories are equal if they have the same bind address.
+ */
 @RequiredArgsConstructor
 @Getter
 @NoArgsConstructor(access = PRIVATE, force = true)
+@EqualsAndHashCode
 class RmiSocketFactory implements RMIClientSocketFactory, RMIServerSocketFactory, Serializable {
 
     private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(1);
@@ -28,8 +35,42 @@ class RmiSocketFactory implements RMIClientSocketFactory, RMIServerSocketFactory
     private final InetAddress bindAddr;
 
     @Nullable
+    @EqualsAndHashCode.Exclude
     private transient volatile Integer lastUsedPort;
 
+    @Nullable
+    @Getter(NONE)
+    @EqualsAndHashCode.Exclude
+    private transient volatile ServerSocket preboundServerSocket;
+
+    /**
+     * Binds a server socket on any available port, and returns it from {@link #createServerSocket(int)}
+     * for this port. The port is allocated by the OS and held from the start,
+     * so it can't be taken by another process between choosing and binding it.
+     */
+    public int prebindServerSocket() throws IOException {
+        var serverSocket = new ServerSocket();
+        try {
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(new InetSocketAddress(getBindAddr(), 0));
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+
+        preboundServerSocket = serverSocket;
+        lastUsedPort = serverSocket.getLocalPort();
+        return serverSocket.getLocalPort();
+    }
+
+    public void closePreboundServerSocket() throws IOException {
+        var serverSocket = preboundServerSocket;
+        preboundServerSocket = null;
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
     @Override
     public Socket createSocket(String host, int port) throws IOException {
         var clientSocket = new Socket();
@@ -41,6 +82,12 @@ class RmiSocketFactory implements RMIClientSocketFactory, RMIServerSocketFactory
 
     @Override
     public ServerSocket createServerSocket(int port) throws IOException {
+        var preboundServerSocket = this.preboundServerSocket;
+        if (preboundServerSocket != null && preboundServerSocket.getLocalPort() == port) {
+            this.preboundServerSocket = null;
+            return preboundServerSocket;
+        }
+
         var serverSocket = new ServerSocket(port, 0, getBindAddr());
         lastUsedPort = serverSocket.getLocalPort();
         return serverSocket;
@@ -6,6 +6,7 @@ import java.rmi.RemoteException;
 import name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintLogSink;
 import org.gradle.api.Task;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 
 public class SonarLintTaskLogSink implements SonarLintLogSink {
 
@@ -17,8 +18,23 @@ public class SonarLintTaskLogSink implements SonarLintLogSink {
 
     @Override
     public void onMessage(String levelName, String message) throws RemoteException {
-        var level = org.slf4j.event.Level.valueOf(levelName);
+        var level = Level.valueOf(levelName);
         newLoggingEvent(level).message(message).log(logger);
     }
 
+
+    public static Level getMinEnabledLogLevel(Logger logger) {
+        if (logger.isTraceEnabled()) {
+            return Level.TRACE;
+        } else if (logger.isDebugEnabled()) {
+            return Level.DEBUG;
+        } else if (logger.isInfoEnabled()) {
+            return Level.INFO;
+        } else if (logger.isWarnEnabled()) {
+            return Level.WARN;
+        } else {
+            return Level.ERROR;
+        }
+    }
+
 }
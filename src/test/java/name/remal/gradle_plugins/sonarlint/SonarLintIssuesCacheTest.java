@@ -0,0 +1,136 @@
+package name.remal.gradle_plugins.sonarlint;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static name.remal.gradle_plugins.sonarlint.SonarLintFixtures.issue;
+import static name.remal.gradle_plugins.sonarlint.SonarLintFixtures.writeSourceFile;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesCache.computeIssuesCacheFingerprint;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesCache.loadIssuesCache;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.SneakyThrows;
+import name.remal.gradle_plugins.sonarlint.internal.server.api.ImmutableSonarLintAnalyzeParams;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SonarLintIssuesCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    File cacheFile() {
+        return new File(tempDir, "build/issues-cache.bin");
+    }
+
+    @Test
+    void cachedIssuesAreReusedForUnchangedFile() {
+        var sourceFile = writeSourceFile(tempDir, "A.java", "class A {}");
+        var issuesCache = loadIssuesCache(cacheFile(), "fingerprint");
+        assertThat(issuesCache.getCachedIssues(sourceFile)).isNull();
+        issuesCache.putIssues(sourceFile, List.of(issue(sourceFile, "rule")));
+        issuesCache.save();
+
+        var cachedIssues = loadIssuesCache(cacheFile(), "fingerprint").getCachedIssues(sourceFile);
+        assertThat(cachedIssues).isNotNull();
+        assertThat(cachedIssues).extracting(Issue::getRule).containsExactly("rule");
+    }
+
+    @Test
+    void modifiedFileIsNotReused() {
+        var sourceFile = writeSourceFile(tempDir, "A.java", "class A {}");
+        var issuesCache = loadIssuesCache(cacheFile(), "fingerprint");
+        issuesCache.putIssues(sourceFile, List.of(issue(sourceFile, "rule")));
+        issuesCache.save();
+
+        writeSourceFile(tempDir, "A.java", "class A { int field; }");
+        assertThat(loadIssuesCache(cacheFile(), "fingerprint").getCachedIssues(sourceFile)).isNull();
+    }
+
+    @Test
+    void changedFingerprintInvalidatesCache() {
+        var sourceFile = writeSourceFile(tempDir, "A.java", "class A {}");
+        var issuesCache = loadIssuesCache(cacheFile(), "fingerprint");
+        issuesCache.putIssues(sourceFile, List.of(issue(sourceFile, "rule")));
+        issuesCache.save();
+
+        assertThat(loadIssuesCache(cacheFile(), "other-fingerprint").getCachedIssues(sourceFile)).isNull();
+    }
+
+    @Test
+    @SneakyThrows
+    void unreadableCacheIsIgnored() {
+        var sourceFile = writeSourceFile(tempDir, "A.java", "class A {}");
+        var cacheFile = cacheFile();
+        cacheFile.getParentFile().mkdirs();
+        write(cacheFile.toPath(), "corrupted".getBytes(UTF_8));
+
+        assertThat(loadIssuesCache(cacheFile, "fingerprint").getCachedIssues(sourceFile)).isNull();
+    }
+
+    @Test
+    void entriesOfDeletedFilesAreDropped() {
+        var sourceFileA = writeSourceFile(tempDir, "A.java", "class A {}");
+        var sourceFileB = writeSourceFile(tempDir, "B.java", "class B {}");
+        var issuesCache = loadIssuesCache(cacheFile(), "fingerprint");
+        issuesCache.putIssues(sourceFileA, List.of(issue(sourceFileA, "rule-a")));
+        issuesCache.putIssues(sourceFileB, List.of(issue(sourceFileB, "rule-b")));
+        issuesCache.save();
+
+        assertThat(sourceFileB.getFile().delete()).isTrue();
+        loadIssuesCache(cacheFile(), "fingerprint").save();
+        writeSourceFile(tempDir, "B.java", "class B {}");
+
+        var reloadedCache = loadIssuesCache(cacheFile(), "fingerprint");
+        assertThat(reloadedCache.getCachedIssues(sourceFileA)).isNotNull();
+        assertThat(reloadedCache.getCachedIssues(sourceFileB)).isNull();
+    }
+
+    @Test
+    void fingerprintDependsOnAnalysisConfiguration() {
+        var params = ImmutableSonarLintAnalyzeParams.builder()
+            .repositoryRoot(tempDir)
+            .moduleId(":module")
+            .sonarProperties(Map.of("sonar.java.source", "11"))
+            .enabledRulesConfig(Set.of("java:S100"))
+            .build();
+        var fingerprint = computeIssuesCacheFingerprint(List.of(), params);
+
+        assertThat(computeIssuesCacheFingerprint(List.of(), params.withJobId("other-job")))
+            .as("job ID")
+            .isEqualTo(fingerprint);
+
+        assertThat(computeIssuesCacheFingerprint(List.of(), params.withSonarProperties(Map.of())))
+            .as("Sonar properties")
+            .isNotEqualTo(fingerprint);
+
+        assertThat(computeIssuesCacheFingerprint(List.of(), params.withDisabledRulesConfig(Set.of("java:S101"))))
+            .as("disabled rules")
+            .isNotEqualTo(fingerprint);
+
+        assertThat(computeIssuesCacheFingerprint(List.of(), params.withRulesPropertiesConfig(
+            Map.of("java:S100", Map.of("format", "^[a-z]+$"))
+        )))
+            .as("rules properties")
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintDependsOnPluginFiles() {
+        var params = ImmutableSonarLintAnalyzeParams.builder()
+            .repositoryRoot(tempDir)
+            .moduleId(":module")
+            .build();
+        var pluginFile = writeSourceFile(tempDir, "plugin.jar", "plugin").getFile();
+        var fingerprint = computeIssuesCacheFingerprint(List.of(pluginFile), params);
+
+        var otherPluginFile = writeSourceFile(tempDir, "other-plugin.jar", "other plugin").getFile();
+        assertThat(computeIssuesCacheFingerprint(List.of(otherPluginFile), params))
+            .isNotEqualTo(fingerprint);
+    }
+
+}
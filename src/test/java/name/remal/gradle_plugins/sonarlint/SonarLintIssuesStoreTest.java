@@ -0,0 +1,123 @@
+package name.remal.gradle_plugins.sonarlint;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static java.util.stream.Collectors.toList;
+import static name.remal.gradle_plugins.sonarlint.SonarLintFixtures.issue;
+import static name.remal.gradle_plugins.sonarlint.SonarLintFixtures.sourceFile;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesStore.loadIssuesStore;
+import static name.remal.gradle_plugins.sonarlint.SonarLintIssuesStore.newIssuesStore;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import lombok.SneakyThrows;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SonarLintIssuesStoreTest {
+
+    @TempDir
+    File tempDir;
+
+    File storeFile() {
+        return new File(tempDir, "build/issues-store.bin");
+    }
+
+    final File root = new File("/repository").getAbsoluteFile();
+
+    final SourceFile fileA = sourceFile(root, "A.java");
+
+    final SourceFile fileB = sourceFile(root, "B.java");
+
+    @Test
+    void notExistingStore() {
+        assertThat(loadIssuesStore(storeFile())).isNull();
+    }
+
+    @Test
+    @SneakyThrows
+    void unreadableStore() {
+        var storeFile = storeFile();
+        storeFile.getParentFile().mkdirs();
+        write(storeFile.toPath(), "corrupted".getBytes(UTF_8));
+
+        assertThat(loadIssuesStore(storeFile)).isNull();
+    }
+
+    @Test
+    void savedIssuesAreLoaded() {
+        var issueA = issue(fileA, "rule-a");
+        var issueB = issue(fileB, "rule-b");
+        saveFullAnalysis(List.of(issueA, issueB));
+
+        var store = loadIssuesStore(storeFile());
+        assertThat(store).isNotNull();
+        assertThat(rulesOf(store.getIssues(List.of(fileA, fileB))))
+            .containsExactly("rule-a", "rule-b");
+    }
+
+    @Test
+    void modifiedFileIssuesAreReplaced() {
+        saveFullAnalysis(List.of(
+            issue(fileA, "rule-a"),
+            issue(fileB, "rule-b")
+        ));
+
+        var store = loadIssuesStore(storeFile());
+        assertThat(store).isNotNull();
+        store.update(List.of(fileA, fileB), List.of(fileA), List.of(issue(fileA, "rule-a-changed")));
+
+        assertThat(rulesOf(store.getIssues(List.of(fileA, fileB))))
+            .containsExactly("rule-a-changed", "rule-b");
+    }
+
+    @Test
+    void fixedFileIssuesAreRemoved() {
+        saveFullAnalysis(List.of(
+            issue(fileA, "rule-a"),
+            issue(fileB, "rule-b")
+        ));
+
+        var store = loadIssuesStore(storeFile());
+        assertThat(store).isNotNull();
+        store.update(List.of(fileA, fileB), List.of(fileA), List.of());
+
+        assertThat(rulesOf(store.getIssues(List.of(fileA, fileB))))
+            .containsExactly("rule-b");
+    }
+
+    @Test
+    void removedFileIssuesAreDropped() {
+        saveFullAnalysis(List.of(
+            issue(fileA, "rule-a"),
+            issue(fileB, "rule-b")
+        ));
+
+        var store = loadIssuesStore(storeFile());
+        assertThat(store).isNotNull();
+        store.update(List.of(fileA), List.of(), List.of());
+        store.save();
+
+        var reloadedStore = loadIssuesStore(storeFile());
+        assertThat(reloadedStore).isNotNull();
+        assertThat(rulesOf(reloadedStore.getIssues(List.of(fileA, fileB))))
+            .containsExactly("rule-a");
+    }
+
+
+    private void saveFullAnalysis(List<Issue> issues) {
+        var store = newIssuesStore(storeFile());
+        store.update(List.of(fileA, fileB), List.of(fileA, fileB), issues);
+        store.save();
+    }
+
+    private static List<String> rulesOf(List<Issue> issues) {
+        return issues.stream()
+            .map(Issue::getRule)
+            .collect(toList());
+    }
+
+}
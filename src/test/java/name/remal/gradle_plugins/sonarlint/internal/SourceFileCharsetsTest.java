@@ -0,0 +1,88 @@
+package name.remal.gradle_plugins.sonarlint.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.writeString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Path;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceFileCharsetsTest {
+
+    @TempDir
+    Path rootDir;
+
+    @Test
+    void fileNameSectionIsResolvedForEveryFile() {
+        write(".editorconfig", String.join("\n",
+            "root = true",
+            "",
+            "[*.java]",
+            "charset = latin1",
+            "",
+            "[Special.java]",
+            "charset = utf-16be"
+        ));
+        var first = write("src/First.java", "");
+        var special = write("src/Special.java", "");
+        var second = write("src/Second.java", "");
+
+        var charsets = new SourceFileCharsets(rootDir);
+
+        assertThat(charsets.getCharsetName(first)).isEqualTo("LATIN1");
+        assertThat(charsets.getCharsetName(special)).isEqualTo("UTF-16BE");
+        assertThat(charsets.getCharsetName(second)).isEqualTo("LATIN1");
+    }
+
+    @Test
+    void extensionlessFilesAreResolvedSeparately() {
+        write(".editorconfig", String.join("\n",
+            "root = true",
+            "",
+            "[Makefile]",
+            "charset = latin1"
+        ));
+        var makefile = write("Makefile", "");
+        var dockerfile = write("Dockerfile", "");
+
+        var charsets = new SourceFileCharsets(rootDir);
+
+        assertThat(charsets.getCharsetName(makefile)).isEqualTo("LATIN1");
+        assertThat(charsets.getCharsetName(dockerfile)).isEqualTo(UTF_8.name());
+    }
+
+    @Test
+    void nestedEditorConfigIsTakenIntoAccount() {
+        write(".editorconfig", String.join("\n",
+            "root = true",
+            "",
+            "[*.java]",
+            "charset = latin1"
+        ));
+        write("src/.editorconfig", String.join("\n",
+            "[Special.java]",
+            "charset = utf-16be"
+        ));
+        var special = write("src/pkg/Special.java", "");
+        var other = write("src/pkg/Other.java", "");
+
+        var charsets = new SourceFileCharsets(rootDir);
+
+        assertThat(charsets.getCharsetName(other)).isEqualTo("LATIN1");
+        assertThat(charsets.getCharsetName(special)).isEqualTo("UTF-16BE");
+    }
+
+
+    @SneakyThrows
+    private File write(String relativePath, String content) {
+        var path = rootDir.resolve(relativePath);
+        createDirectories(path.getParent());
+        writeString(path, content, UTF_8);
+        return path.toFile();
+    }
+
+}
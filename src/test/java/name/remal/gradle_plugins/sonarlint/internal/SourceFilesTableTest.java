@@ -0,0 +1,43 @@
+package name.remal.gradle_plugins.sonarlint.internal;
+
+import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.deserializeFrom;
+import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.serializeToBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SourceFilesTableTest {
+
+    final File root = new File("/repository").getAbsoluteFile();
+
+    @Test
+    void serialization() {
+        var sourceFiles = List.of(
+            SourceFile.builder()
+                .file(new File(root, "src/main/java/Main.java"))
+                .relativePath("src/main/java/Main.java")
+                .encoding("UTF-8")
+                .build(),
+            SourceFile.builder()
+                .file(new File(root, "src/test/java/MainTest.java"))
+                .relativePath("src/test/java/MainTest.java")
+                .test(true)
+                .encoding("ISO-8859-1")
+                .build(),
+            SourceFile.builder()
+                .file(new File("/other/Other.java").getAbsoluteFile())
+                .relativePath("Other.java")
+                .build()
+        );
+        var table = new SourceFilesTable(root, sourceFiles);
+
+        var bytes = serializeToBytes(table);
+        var deserializedTable = deserializeFrom(bytes, SourceFilesTable.class);
+
+        assertThat(deserializedTable.getSourceFiles())
+            .isEqualTo(sourceFiles);
+    }
+
+}
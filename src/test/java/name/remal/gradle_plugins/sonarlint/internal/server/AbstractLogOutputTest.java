@@ -0,0 +1,69 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.DEBUG;
+import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.INFO;
+
+import java.util.ArrayList;
+import java.util.List;
+import name.remal.gradle_plugins.toolkit.testkit.MinTestableJavaVersion;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+@MinTestableJavaVersion(17)
+class AbstractLogOutputTest {
+
+    final LogOutputAtInfo logOutput = new LogOutputAtInfo();
+
+    @Test
+    void disabledMessageIsDroppedWithoutFormatting() {
+        logOutput.log("Index files", DEBUG, "stacktrace");
+
+        assertThat(logOutput.joinedMessages).isZero();
+        assertThat(logOutput.loggedMessages).isEmpty();
+    }
+
+    @Test
+    void disabledMessageReclassifiedToEnabledLevelIsLogged() {
+        logOutput.log("Embedded node not found for platform linux-x64", DEBUG, null);
+
+        assertThat(logOutput.loggedMessages).containsExactly(
+            "WARN: Embedded node not found for platform linux-x64"
+        );
+    }
+
+    @Test
+    void enabledMessageReclassifiedToDisabledLevelIsDropped() {
+        logOutput.log("3 files ignored. Enable DEBUG mode to see them.", INFO, null);
+
+        assertThat(logOutput.joinedMessages).isEqualTo(1);
+        assertThat(logOutput.loggedMessages).isEmpty();
+    }
+
+
+    static class LogOutputAtInfo extends AbstractLogOutput {
+
+        final List<String> loggedMessages = new ArrayList<>();
+
+        int joinedMessages;
+
+        @Override
+        protected boolean isEnabled(Level slf4jLevel) {
+            return slf4jLevel.toInt() >= Level.INFO.toInt();
+        }
+
+        @Override
+        protected void logImpl(String formattedMessage, Level slf4jLevel) {
+            loggedMessages.add(slf4jLevel + ": " + formattedMessage);
+        }
+
+        @Override
+        String joinMessage(@Nullable String formattedMessage, @Nullable String stacktrace) {
+            joinedMessages++;
+            return super.joinMessage(formattedMessage, stacktrace);
+        }
+
+    }
+
+}
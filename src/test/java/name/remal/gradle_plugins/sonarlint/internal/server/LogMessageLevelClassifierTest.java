@@ -0,0 +1,88 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static name.remal.gradle_plugins.sonarlint.internal.server.AbstractLogOutput.MESSAGE_LEVEL_CLASSIFIER;
+import static name.remal.gradle_plugins.sonarlint.internal.server.LogMessageLevelClassifier.levelRule;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.DEBUG;
+import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.TRACE;
+import static org.sonarsource.sonarlint.core.commons.log.LogOutput.Level.WARN;
+
+import name.remal.gradle_plugins.toolkit.testkit.MinTestableJavaVersion;
+import org.junit.jupiter.api.Test;
+
+@MinTestableJavaVersion(17)
+class LogMessageLevelClassifierTest {
+
+    @Test
+    void exactMessage() {
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify("No workDir in SonarLint"))
+            .isEqualTo(TRACE);
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify("No workDir in SonarLint!"))
+            .isNull();
+    }
+
+    @Test
+    void suffixOnly() {
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify("3 files ignored. Enable DEBUG mode to see them."))
+            .isEqualTo(TRACE);
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify(". Enable DEBUG mode to see them."))
+            .isNull();
+    }
+
+    @Test
+    void firstMatchingRuleWins() {
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify(
+            "Plugin 'sonar-kotlin' is excluded because language 'kotlin' is not enabled. Skip loading it."
+        )).isEqualTo(DEBUG);
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify(
+            "Plugin 'sonar-kotlin' is excluded because it's not compatible. Skip loading it."
+        )).isEqualTo(WARN);
+    }
+
+    @Test
+    void prefixOnly() {
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify("Embedded node not found for platform linux-x64"))
+            .isEqualTo(WARN);
+    }
+
+    @Test
+    void multilineMessagesAreNotClassified() {
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify("Embedded node not found for platform\nlinux-x64"))
+            .isNull();
+    }
+
+    @Test
+    void unknownMessage() {
+        assertThat(MESSAGE_LEVEL_CLASSIFIER.classify("Index files"))
+            .isNull();
+    }
+
+    @Test
+    void literalPrefixAndSuffixAreDerivedFromPattern() {
+        var rule = levelRule("Plugin '[^']+' is excluded .+\\. Skip loading it\\.", WARN);
+        assertThat(rule.getPrefix()).isEqualTo("Plugin '");
+        assertThat(rule.getSuffix()).isEqualTo(". Skip loading it.");
+    }
+
+    @Test
+    void literalPatternIsPrefixOnly() {
+        var rule = levelRule("No workDir in SonarLint", TRACE);
+        assertThat(rule.getPrefix()).isEqualTo("No workDir in SonarLint");
+        assertThat(rule.getSuffix()).isEmpty();
+    }
+
+    @Test
+    void quantifiedCharactersAreNotLiteral() {
+        var rule = levelRule("ab*c{2}d?", TRACE);
+        assertThat(rule.getPrefix()).isEqualTo("a");
+        assertThat(rule.getSuffix()).isEmpty();
+    }
+
+    @Test
+    void topLevelAlternationHasNoLiterals() {
+        var rule = levelRule("first|second", TRACE);
+        assertThat(rule.getPrefix()).isEmpty();
+        assertThat(rule.getSuffix()).isEmpty();
+    }
+
+}
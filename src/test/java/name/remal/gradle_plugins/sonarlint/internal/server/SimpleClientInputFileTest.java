@@ -0,0 +1,95 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.toolkit.testkit.MinTestableJavaVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@MinTestableJavaVersion(17)
+class SimpleClientInputFileTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void readsContentsAndInputStream() throws Throwable {
+        assertContentsRead("class Main { String s = \"é\"; }");
+    }
+
+    @Test
+    void readsLargeFile() throws Throwable {
+        assertContentsRead("// comment\n".repeat(200_000));
+    }
+
+    @Test
+    void readsFileAgainAfterRelease() throws Throwable {
+        var file = new File(tempDir, "Main.java");
+        write(file.toPath(), "first".getBytes(UTF_8));
+        var inputFile = newInputFile(file);
+        assertThat(inputFile.contents()).isEqualTo("first");
+
+        write(file.toPath(), "second".getBytes(UTF_8));
+        assertThat(inputFile.contents()).isEqualTo("first");
+
+        inputFile.release();
+        assertThat(inputFile.contents()).isEqualTo("second");
+    }
+
+    @Test
+    void leastRecentlyAccessedContentsAreReleasedWhenCacheIsFull() throws Throwable {
+        var contentsCache = new ClientInputFileContentsCache(2L * "first".length());
+        var firstFile = new File(tempDir, "First.java");
+        write(firstFile.toPath(), "first".getBytes(UTF_8));
+        var secondFile = new File(tempDir, "Second.java");
+        write(secondFile.toPath(), "other".getBytes(UTF_8));
+        var first = newInputFile(firstFile, contentsCache);
+        var second = newInputFile(secondFile, contentsCache);
+        assertThat(first.contents()).isEqualTo("first");
+        assertThat(second.contents()).isEqualTo("other");
+
+        write(firstFile.toPath(), "FIRST".getBytes(UTF_8));
+        write(secondFile.toPath(), "OTHER".getBytes(UTF_8));
+        assertThat(second.contents()).isEqualTo("other");
+        assertThat(first.contents()).isEqualTo("FIRST");
+    }
+
+    private void assertContentsRead(String contents) throws Throwable {
+        var file = new File(tempDir, "Main.java");
+        write(file.toPath(), contents.getBytes(UTF_8));
+        var inputFile = newInputFile(file);
+
+        try (var inputStream = inputFile.inputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(contents.getBytes(UTF_8));
+        }
+
+        assertThat(inputFile.contents()).isEqualTo(contents);
+        assertThat(inputFile.contents()).isEqualTo(contents);
+
+        for (var i = 0; i < 2; i++) {
+            try (var inputStream = inputFile.inputStream()) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(contents.getBytes(UTF_8));
+            }
+        }
+    }
+
+    private static SimpleClientInputFile newInputFile(File file) {
+        return newInputFile(file, new ClientInputFileContentsCache());
+    }
+
+    private static SimpleClientInputFile newInputFile(File file, ClientInputFileContentsCache contentsCache) {
+        return new SimpleClientInputFile(
+            SourceFile.builder()
+                .file(file)
+                .relativePath(file.getName())
+                .encoding("UTF-8")
+                .build(),
+            contentsCache
+        );
+    }
+
+}
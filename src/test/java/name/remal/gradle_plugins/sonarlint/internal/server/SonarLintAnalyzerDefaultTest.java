@@ -0,0 +1,74 @@
+package name.remal.gradle_plugins.sonarlint.internal.server;
+
+import static java.util.stream.Collectors.toList;
+import static name.remal.gradle_plugins.sonarlint.SonarLintFixtures.writeSourceFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.toolkit.testkit.MinTestableJavaVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@MinTestableJavaVersion(17)
+class SonarLintAnalyzerDefaultTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void splitIntoShardsWithParallelismOfOne() {
+        var sourceFiles = List.of(
+            writeSourceFile(tempDir, "a", new byte[10]),
+            writeSourceFile(tempDir, "b", new byte[20])
+        );
+
+        var shards = SonarLintAnalyzerDefault.splitIntoShards(sourceFiles, 1);
+
+        assertThat(shards).containsExactly(sourceFiles);
+    }
+
+    @Test
+    void splitIntoShardsBalancesBySize() {
+        var sourceFiles = List.of(
+            writeSourceFile(tempDir, "a", new byte[100]),
+            writeSourceFile(tempDir, "b", new byte[60]),
+            writeSourceFile(tempDir, "c", new byte[50]),
+            writeSourceFile(tempDir, "d", new byte[40]),
+            writeSourceFile(tempDir, "e", new byte[10])
+        );
+
+        var shards = SonarLintAnalyzerDefault.splitIntoShards(sourceFiles, 2);
+
+        assertThat(shards).hasSize(2);
+        assertThat(shards.stream().map(SonarLintAnalyzerDefaultTest::totalSize).collect(toList()))
+            .containsExactly(140L, 120L);
+
+        var allShardedFiles = new ArrayList<SourceFile>();
+        shards.forEach(allShardedFiles::addAll);
+        assertThat(allShardedFiles).containsExactlyInAnyOrderElementsOf(sourceFiles);
+    }
+
+    @Test
+    void splitIntoShardsCreatesNoMoreShardsThanFiles() {
+        var sourceFiles = List.of(
+            writeSourceFile(tempDir, "a", new byte[10]),
+            writeSourceFile(tempDir, "b", new byte[20])
+        );
+
+        var shards = SonarLintAnalyzerDefault.splitIntoShards(sourceFiles, 8);
+
+        assertThat(shards).hasSize(2)
+            .allSatisfy(shard -> assertThat(shard).hasSize(1));
+    }
+
+
+    private static long totalSize(List<SourceFile> shard) {
+        return shard.stream()
+            .mapToLong(sourceFile -> sourceFile.getFile().length())
+            .sum();
+    }
+
+}
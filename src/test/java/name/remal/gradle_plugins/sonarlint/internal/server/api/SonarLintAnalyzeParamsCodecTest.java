@@ -0,0 +1,99 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import name.remal.gradle_plugins.sonarlint.SonarLintLanguage;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+class SonarLintAnalyzeParamsCodecTest {
+
+    final SonarLintAnalyzeParamsEncoder encoder = new SonarLintAnalyzeParamsEncoder();
+
+    final SonarLintAnalyzeParamsDecoder decoder = new SonarLintAnalyzeParamsDecoder();
+
+    final File root = new File("/repository").getAbsoluteFile();
+
+    @Test
+    void roundTrip() {
+        var params = ImmutableSonarLintAnalyzeParams.builder()
+            .repositoryRoot(root)
+            .moduleId(":module")
+            .addSourceFiles(
+                SourceFile.builder()
+                    .file(new File(root, "src/main/java/Main.java"))
+                    .relativePath("src/main/java/Main.java")
+                    .encoding("UTF-8")
+                    .build(),
+                SourceFile.builder()
+                    .file(new File(root, "module/src/test/java/MainTest.java"))
+                    .relativePath("src/test/java/MainTest.java")
+                    .test(true)
+                    .encoding("UTF-8")
+                    .build(),
+                SourceFile.builder()
+                    .file(new File("/other/Other.java").getAbsoluteFile())
+                    .relativePath("Other.java")
+                    .build()
+            )
+            .enabledLanguages(Set.of(SonarLintLanguage.JAVA))
+            .sonarProperties(Map.of("sonar.java.source", "11"))
+            .isEnableRulesActivatedByDefault(false)
+            .enabledRulesConfig(Set.of("java:S100"))
+            .disabledRulesConfig(Set.of("java:S101"))
+            .rulesPropertiesConfig(Map.of("java:S100", Map.of("format", "^[a-z]+$")))
+            .analysisParallelism(4)
+            .minLogLevel(Level.WARN)
+            .build();
+
+        assertThat(decoder.decode(encoder.encode(params)))
+            .isEqualTo(params);
+    }
+
+    @Test
+    void sonarPropertiesDelta() {
+        var params = ImmutableSonarLintAnalyzeParams.builder()
+            .repositoryRoot(root)
+            .moduleId(":module")
+            .sonarProperties(Map.of("a", "1", "b", "2"))
+            .build();
+        decoder.decode(encoder.encode(params));
+
+        var changedParams = params.withSonarProperties(Map.of("a", "1", "c", "3"));
+        assertThat(decoder.decode(encoder.encode(changedParams)))
+            .isEqualTo(changedParams);
+    }
+
+    @Test
+    void unknownSonarPropertiesBase() {
+        var params = ImmutableSonarLintAnalyzeParams.builder()
+            .repositoryRoot(root)
+            .moduleId(":module")
+            .sonarProperties(Map.of("a", "1"))
+            .build();
+        encoder.encode(params);
+
+        assertThat(decoder.decode(encoder.encode(params)))
+            .isNull();
+
+        encoder.forgetSonarProperties(params.getModuleId());
+        assertThat(decoder.decode(encoder.encode(params)))
+            .isEqualTo(params);
+    }
+
+    @Test
+    void unsupportedFormatVersion() {
+        var encodedParams = ByteBuffer.allocate(Integer.BYTES)
+            .putInt(SonarLintAnalyzeParamsCodec.FORMAT_VERSION + 1)
+            .array();
+
+        assertThat(decoder.decode(encodedParams))
+            .isNull();
+    }
+
+}
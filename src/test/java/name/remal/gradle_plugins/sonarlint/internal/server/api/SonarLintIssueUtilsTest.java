@@ -0,0 +1,49 @@
+package name.remal.gradle_plugins.sonarlint.internal.server.api;
+
+import static name.remal.gradle_plugins.sonarlint.internal.server.api.SonarLintIssueUtils.sortIssues;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SonarLintIssueUtilsTest {
+
+    final File file = new File("/repository/a").getAbsoluteFile();
+
+    @Test
+    void sortIssuesDoesNotDependOnReportingOrder() {
+        var issues = List.of(
+            issue(1, 5, "second message"),
+            issue(1, 5, "first message"),
+            issue(1, 3, "first message"),
+            issue(1, 5, "first message")
+        );
+
+        var reversedIssues = new ArrayList<>(issues);
+        Collections.reverse(reversedIssues);
+
+        assertThat(sortIssues(issues))
+            .containsExactly(
+                issue(1, 3, "first message"),
+                issue(1, 5, "first message"),
+                issue(1, 5, "second message")
+            )
+            .isEqualTo(sortIssues(reversedIssues));
+    }
+
+    private SonarLintIssue issue(int line, int endColumn, String message) {
+        return SonarLintIssue.builder()
+            .rule("java:S100")
+            .message(message)
+            .sourceFile(file)
+            .startLine(line)
+            .startColumn(1)
+            .endLine(line)
+            .endColumn(endColumn)
+            .build();
+    }
+
+}
@@ -0,0 +1,38 @@
+package name.remal.gradle_plugins.sonarlint.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathPrefixIndexTest {
+
+    final Path root = Path.of("repository").toAbsolutePath();
+
+    final PathPrefixIndex index = new PathPrefixIndex(List.of(
+        root.resolve("build"),
+        root.resolve("module/build")
+    ));
+
+    @Test
+    void containsPrefixOf() {
+        assertThat(index.containsPrefixOf(root.resolve("build"))).isTrue();
+        assertThat(index.containsPrefixOf(root.resolve("build/generated/Main.java"))).isTrue();
+        assertThat(index.containsPrefixOf(root.resolve("module/build/generated/Main.java"))).isTrue();
+        assertThat(index.containsPrefixOf(root.resolve("module/src/../build/Main.java"))).isTrue();
+
+        assertThat(index.containsPrefixOf(root)).isFalse();
+        assertThat(index.containsPrefixOf(root.resolve("buildSrc/Main.java"))).isFalse();
+        assertThat(index.containsPrefixOf(root.resolve("module/src/main/java/Main.java"))).isFalse();
+        assertThat(index.containsPrefixOf(root.resolve("other/build/Main.java"))).isFalse();
+    }
+
+    @Test
+    void empty() {
+        var emptyIndex = new PathPrefixIndex(List.of());
+        assertThat(emptyIndex.isEmpty()).isTrue();
+        assertThat(emptyIndex.containsPrefixOf(root.resolve("build/Main.java"))).isFalse();
+    }
+
+}
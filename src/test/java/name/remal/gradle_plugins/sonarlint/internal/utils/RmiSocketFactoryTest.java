@@ -3,6 +3,7 @@ package name.remal.gradle_plugins.sonarlint.internal.utils;
 import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.deserializeFrom;
 import static name.remal.gradle_plugins.toolkit.JavaSerializationUtils.serializeToBytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.net.InetAddress;
@@ -22,4 +23,15 @@ class RmiSocketFactoryTest {
         assertNull(deserialized.getLastUsedPort());
     }
 
+    @Test
+    @SuppressWarnings("AddressSelection")
+    void equalForTheSameBindAddress() throws Exception {
+        var socketFactory = new RmiSocketFactory(InetAddress.getByName("127.0.0.1"));
+        var deserialized = deserializeFrom(serializeToBytes(socketFactory), RmiSocketFactory.class);
+
+        assertEquals(socketFactory, deserialized);
+        assertEquals(socketFactory.hashCode(), deserialized.hashCode());
+        assertNotEquals(socketFactory, new RmiSocketFactory(InetAddress.getByName("127.0.0.2")));
+    }
+
 }
@@ -0,0 +1,48 @@
+package name.remal.gradle_plugins.sonarlint;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static lombok.AccessLevel.PRIVATE;
+import static name.remal.gradle_plugins.toolkit.PathUtils.createParentDirectories;
+import static name.remal.gradle_plugins.toolkit.issues.Issue.newIssue;
+import static name.remal.gradle_plugins.toolkit.issues.TextMessage.textMessageOf;
+
+import java.io.File;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import name.remal.gradle_plugins.sonarlint.internal.SourceFile;
+import name.remal.gradle_plugins.toolkit.issues.Issue;
+
+@NoArgsConstructor(access = PRIVATE)
+public abstract class SonarLintFixtures {
+
+    public static SourceFile sourceFile(File rootDir, String relativePath) {
+        return SourceFile.builder()
+            .file(new File(rootDir, relativePath))
+            .relativePath(relativePath)
+            .encoding(UTF_8.name())
+            .build();
+    }
+
+    @SneakyThrows
+    public static SourceFile writeSourceFile(File rootDir, String relativePath, byte[] content) {
+        var sourceFile = sourceFile(rootDir, relativePath);
+        var path = sourceFile.getFile().toPath();
+        createParentDirectories(path);
+        write(path, content);
+        return sourceFile;
+    }
+
+    public static SourceFile writeSourceFile(File rootDir, String relativePath, String content) {
+        return writeSourceFile(rootDir, relativePath, content.getBytes(UTF_8));
+    }
+
+    public static Issue issue(SourceFile sourceFile, String rule) {
+        return newIssue(builder -> {
+            builder.rule(rule);
+            builder.message(textMessageOf("message"));
+            builder.sourceFile(sourceFile.getFile());
+        });
+    }
+
+}